@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.starter.autoconfigure.config;
+
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfiles;
+import io.github.photowey.spring.infras.starter.autoconfigure.property.SpringInfrasProperties;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * {@code JacksonProfileConfigure}
+ * <p>
+ * Registers the named {@code ObjectMapper} profiles of {@code spring.infras.json.profiles} into the {@link Jackson} facade.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@Configuration
+public class JacksonProfileConfigure {
+
+    @Bean
+    public SmartInitializingSingleton jacksonProfileRegistrar(SpringInfrasProperties props) {
+        return () -> {
+            for (Map.Entry<String, SpringInfrasProperties.Profile> entry : props.json().profiles().entrySet()) {
+                SpringInfrasProperties.Profile profile = entry.getValue();
+                // Fail fast on an unknown base profile or feature name.
+                JacksonProfiles.builder(profile.base(), profile.features());
+                Jackson.registerProfile(entry.getKey(), () -> JacksonProfiles.builder(profile.base(), profile.features()).build());
+            }
+        };
+    }
+}
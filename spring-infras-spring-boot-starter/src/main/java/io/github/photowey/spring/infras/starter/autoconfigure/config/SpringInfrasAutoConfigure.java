@@ -29,6 +29,8 @@ import org.springframework.context.annotation.Import;
 @AutoConfiguration
 @Import(value = {
         TaskExecutorConfigure.class,
+        JacksonProfileConfigure.class,
+        JacksonWarmUpConfigure.class,
         AbstractSpringInfrasConfigure.SpringInfrasComponentConfigure.class,
 })
 @ConditionalOnClass(AutoConfiguration.class)
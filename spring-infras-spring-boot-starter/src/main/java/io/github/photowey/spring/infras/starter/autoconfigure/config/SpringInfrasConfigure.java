@@ -29,6 +29,8 @@ import org.springframework.context.annotation.Import;
 @Configuration
 @Import(value = {
         TaskExecutorConfigure.class,
+        JacksonProfileConfigure.class,
+        JacksonWarmUpConfigure.class,
         AbstractSpringInfrasConfigure.SpringInfrasComponentConfigure.class,
 })
 @ConditionalOnMissingClass("org.springframework.boot.autoconfigure.AutoConfiguration")
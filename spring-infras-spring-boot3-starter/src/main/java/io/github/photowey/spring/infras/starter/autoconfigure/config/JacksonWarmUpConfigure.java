@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.starter.autoconfigure.config;
+
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.starter.autoconfigure.property.SpringInfrasProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code JacksonWarmUpConfigure}
+ * <p>
+ * Warms up the Jackson serializers and deserializers of the {@code spring.infras.json.warm-up} types
+ * on a background thread once the application is ready, and logs the report.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.infras.json.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JacksonWarmUpConfigure {
+
+    private static final Logger log = LoggerFactory.getLogger(JacksonWarmUpConfigure.class);
+
+    private static final String WARM_UP_THREAD_NAME = "infras-jackson-warm-up";
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> jacksonWarmUpListener(SpringInfrasProperties props) {
+        return event -> {
+            SpringInfrasProperties.WarmUp warmUp = props.json().warmUp();
+            if (warmUp.packages().isEmpty() && warmUp.types().isEmpty()) {
+                return;
+            }
+
+            ClassLoader classLoader = event.getApplicationContext().getClassLoader();
+            Jackson.warmUpAsync(resolveTypes(warmUp, classLoader), warmUp.budgetMillis(), JacksonWarmUpConfigure::runInBackground)
+                    .whenComplete((report, e) -> {
+                        if (null != e) {
+                            log.warn("infras: jackson warm-up failed", e);
+                            return;
+                        }
+                        log.info(report.toString());
+                        report.failed().forEach((type, cause) ->
+                                log.warn("infras: jackson warm-up failed for type: {}, cause: {}", type.getName(), cause.getMessage()));
+                    });
+        };
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Set<Class<?>> resolveTypes(SpringInfrasProperties.WarmUp warmUp, ClassLoader classLoader) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String type : warmUp.types()) {
+            resolveType(type, classLoader, types);
+        }
+
+        if (!warmUp.packages().isEmpty()) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((reader, factory) -> true);
+            for (String pkg : warmUp.packages()) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(pkg)) {
+                    resolveType(candidate.getBeanClassName(), classLoader, types);
+                }
+            }
+        }
+
+        return types;
+    }
+
+    private static void resolveType(String type, ClassLoader classLoader, Set<Class<?>> types) {
+        try {
+            types.add(ClassUtils.forName(type, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("infras: jackson warm-up skipped unresolvable type: {}", type);
+        }
+    }
+
+    private static void runInBackground(Runnable task) {
+        Thread thread = new Thread(task, WARM_UP_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
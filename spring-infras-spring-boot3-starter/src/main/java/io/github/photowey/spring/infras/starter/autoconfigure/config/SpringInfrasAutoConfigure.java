@@ -28,6 +28,8 @@ import org.springframework.context.annotation.Import;
 @AutoConfiguration
 @Import(value = {
         TaskExecutorConfigure.class,
+        JacksonProfileConfigure.class,
+        JacksonWarmUpConfigure.class,
         AbstractSpringInfrasConfigure.SpringInfrasComponentConfigure.class,
 })
 public class SpringInfrasAutoConfigure extends AbstractSpringInfrasConfigure {
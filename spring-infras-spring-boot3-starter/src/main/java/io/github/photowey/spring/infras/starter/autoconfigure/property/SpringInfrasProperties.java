@@ -17,10 +17,15 @@ package io.github.photowey.spring.infras.starter.autoconfigure.property;
 
 import io.github.photowey.spring.infras.bean.notify.NotifyCenter;
 import io.github.photowey.spring.infras.common.hardware.HardwareUtils;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfiles;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.StringUtils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * {@code SpringInfrasProperties}
@@ -37,6 +42,7 @@ public class SpringInfrasProperties implements Serializable {
     // ----------------------------------------------------------------
 
     private ThreadPool threadPool = new ThreadPool();
+    private Json json = new Json();
 
     // ----------------------------------------------------------------
 
@@ -136,12 +142,182 @@ public class SpringInfrasProperties implements Serializable {
         }
     }
 
+    /**
+     * {@code spring.infras.json.profiles.<name>.base=strict-fast}
+     * {@code spring.infras.json.profiles.<name>.features.FAIL_ON_UNKNOWN_PROPERTIES=false}
+     *
+     * @since 1.6.0
+     */
+    public static class Json implements Serializable {
+
+        private static final long serialVersionUID = 3517403287016459216L;
+
+        private Map<String, Profile> profiles = new LinkedHashMap<>();
+        private WarmUp warmUp = new WarmUp();
+
+        // ----------------------------------------------------------------
+
+        public Map<String, Profile> getProfiles() {
+            return profiles;
+        }
+
+        public WarmUp getWarmUp() {
+            return warmUp;
+        }
+
+        // ----------------------------------------------------------------
+
+        public Map<String, Profile> profiles() {
+            return profiles;
+        }
+
+        public WarmUp warmUp() {
+            return warmUp;
+        }
+
+        // ----------------------------------------------------------------
+
+        public void setProfiles(Map<String, Profile> profiles) {
+            this.profiles = profiles;
+        }
+
+        public void setWarmUp(WarmUp warmUp) {
+            this.warmUp = warmUp;
+        }
+    }
+
+    /**
+     * {@code spring.infras.json.warm-up.packages=com.example.dto}
+     *
+     * @since 1.6.0
+     */
+    public static class WarmUp implements Serializable {
+
+        private static final long serialVersionUID = 6268316545377853012L;
+
+        private boolean enabled = true;
+        /**
+         * The packages to scan for DTO types.
+         */
+        private List<String> packages = new ArrayList<>();
+        /**
+         * The explicit DTO types, by fully qualified class name.
+         */
+        private List<String> types = new ArrayList<>();
+        /**
+         * The time budget, the remaining types are skipped once exceeded.
+         */
+        private long budgetMillis = 5_000;
+
+        // ----------------------------------------------------------------
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        public List<String> getTypes() {
+            return types;
+        }
+
+        public long getBudgetMillis() {
+            return budgetMillis;
+        }
+
+        // ----------------------------------------------------------------
+
+        public boolean enabled() {
+            return enabled;
+        }
+
+        public List<String> packages() {
+            return packages;
+        }
+
+        public List<String> types() {
+            return types;
+        }
+
+        public long budgetMillis() {
+            return budgetMillis;
+        }
+
+        // ----------------------------------------------------------------
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setPackages(List<String> packages) {
+            this.packages = packages;
+        }
+
+        public void setTypes(List<String> types) {
+            this.types = types;
+        }
+
+        public void setBudgetMillis(long budgetMillis) {
+            this.budgetMillis = budgetMillis;
+        }
+    }
+
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = -4407416312924733826L;
+
+        /**
+         * The built-in profile to start from: {@code default}, {@code strict-fast} or {@code lenient}.
+         */
+        private String base = JacksonProfiles.DEFAULT;
+        /**
+         * Jackson feature overrides, keyed by the feature enum constant name.
+         */
+        private Map<String, Boolean> features = new LinkedHashMap<>();
+
+        // ----------------------------------------------------------------
+
+        public String getBase() {
+            return base;
+        }
+
+        public Map<String, Boolean> getFeatures() {
+            return features;
+        }
+
+        // ----------------------------------------------------------------
+
+        public String base() {
+            return base;
+        }
+
+        public Map<String, Boolean> features() {
+            return features;
+        }
+
+        // ----------------------------------------------------------------
+
+        public void setBase(String base) {
+            this.base = base;
+        }
+
+        public void setFeatures(Map<String, Boolean> features) {
+            this.features = features;
+        }
+    }
+
     // ----------------------------------------------------------------
 
     public ThreadPool threadPool() {
         return threadPool;
     }
 
+    public Json json() {
+        return json;
+    }
+
     // ----------------------------------------------------------------
 
     public ThreadPool getThreadPool() {
@@ -152,6 +328,14 @@ public class SpringInfrasProperties implements Serializable {
         this.threadPool = threadPool;
     }
 
+    public Json getJson() {
+        return json;
+    }
+
+    public void setJson(Json json) {
+        this.json = json;
+    }
+
     public static int determineCorePoolSize(int defaultValue) {
         return determineSystemConfigValue(NotifyCenter.NOTIFY_EXECUTOR_CORE_POOL_SIZE_CONFIG_KEY, String.valueOf(defaultValue));
     }
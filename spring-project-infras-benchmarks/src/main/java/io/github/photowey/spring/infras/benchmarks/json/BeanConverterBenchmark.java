@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonBeanConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BeanConverterBenchmark}
+ * <p>
+ * {@link JacksonBeanConverter} versus {@link ObjectMapper#convertValue(Object, Class)} on the shared mapper.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanConverterBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper = Jackson.getObjectMapper();
+
+    @Benchmark
+    public Map<String, Object> engine_toMap(PayloadState state) {
+        return JacksonBeanConverter.toMap(this.objectMapper, state.order);
+    }
+
+    @Benchmark
+    public Order engine_toObject(PayloadState state) {
+        return JacksonBeanConverter.toObject(this.objectMapper, state.orderMap, Order.class);
+    }
+
+    @Benchmark
+    public Order engine_convert(PayloadState state) {
+        return JacksonBeanConverter.convert(this.objectMapper, state.order, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> engine_convertAll(PayloadState state) {
+        return JacksonBeanConverter.convertAll(this.objectMapper, state.orders, Order.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Map<String, Object> convertValue_toMap(PayloadState state) {
+        return this.objectMapper.convertValue(state.order, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Order convertValue_toObject(PayloadState state) {
+        return this.objectMapper.convertValue(state.orderMap, Order.class);
+    }
+
+    @Benchmark
+    public Order convertValue_convert(PayloadState state) {
+        return this.objectMapper.convertValue(state.order, Order.class);
+    }
+
+    /**
+     * The {@code toObject(toMap(source), Target.class)} idiom.
+     */
+    @Benchmark
+    public Order convertValue_viaMap(PayloadState state) {
+        return this.objectMapper.convertValue(this.objectMapper.convertValue(state.order, MAP_TYPE), Order.class);
+    }
+
+    @Benchmark
+    public List<Order> convertValue_convertAll(PayloadState state) {
+        List<Order> orders = new ArrayList<>(state.orders.size());
+        for (Order order : state.orders) {
+            orders.add(this.objectMapper.convertValue(order, Order.class));
+        }
+
+        return orders;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BinaryFormatBenchmark}
+ * <p>
+ * Text JSON against the {@link JSON.Smile} and {@link JSON.Cbor} facades on the same payloads.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EncodedState {
+
+        public byte[] orderSmile;
+        public byte[] orderCbor;
+
+        @Setup(Level.Trial)
+        public void setup(PayloadState payload) {
+            this.orderSmile = JSON.Smile.toBytes(payload.order);
+            this.orderCbor = JSON.Cbor.toBytes(payload.order);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public byte[] json_toBytes(PayloadState state) {
+        return JSON.Jackson.toBytes(state.order);
+    }
+
+    @Benchmark
+    public byte[] smile_toBytes(PayloadState state) {
+        return JSON.Smile.toBytes(state.order);
+    }
+
+    @Benchmark
+    public byte[] cbor_toBytes(PayloadState state) {
+        return JSON.Cbor.toBytes(state.order);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Order json_parseObject(PayloadState state) {
+        return JSON.Jackson.parseObject(state.orderBytes, Order.class);
+    }
+
+    @Benchmark
+    public Order smile_parseObject(EncodedState state) {
+        return JSON.Smile.parseObject(state.orderSmile, Order.class);
+    }
+
+    @Benchmark
+    public Order cbor_parseObject(EncodedState state) {
+        return JSON.Cbor.parseObject(state.orderCbor, Order.class);
+    }
+}
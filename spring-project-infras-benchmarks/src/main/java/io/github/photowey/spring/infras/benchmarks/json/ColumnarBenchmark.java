@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonColumnSchema;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonColumns;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ColumnarBenchmark}
+ * <p>
+ * Row binding ({@code parseList} then a pivot into columns) against the columnar decode of {@code [{"ts", "v", "tag"}, ...]}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnarBenchmark {
+
+    private static final JacksonColumnSchema SCHEMA = JacksonColumnSchema.builder()
+            .longColumn("ts")
+            .doubleColumn("v")
+            .stringColumn("tag")
+            .build();
+
+    @Param({"10000", "200000"})
+    public int rows;
+
+    public byte[] json;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(17L);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.rows; i++) {
+            builder.append(i > 0 ? "," : "")
+                    .append("{\"ts\":").append(1700000000000L + i * 1000L)
+                    .append(",\"v\":").append(Math.round(random.nextDouble() * 1_000_000D) / 100D)
+                    .append(",\"tag\":\"host-").append(random.nextInt(50)).append("\"}");
+        }
+
+        this.json = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public double[] rows_parseList_pivot() {
+        List<Row> rows = JSON.Jackson.parseArray(this.json, Row.class);
+        long[] ts = new long[rows.size()];
+        double[] v = new double[rows.size()];
+        String[] tag = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            ts[i] = row.getTs();
+            v[i] = row.getV();
+            tag[i] = row.getTag();
+        }
+
+        return v;
+    }
+
+    @Benchmark
+    public JacksonColumns columns_parseColumns() {
+        return JSON.Jackson.parseColumns(this.json, SCHEMA);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class Row {
+
+        private long ts;
+        private double v;
+        private String tag;
+
+        public long getTs() {
+            return this.ts;
+        }
+
+        public void setTs(long ts) {
+            this.ts = ts;
+        }
+
+        public double getV() {
+            return this.v;
+        }
+
+        public void setV(double v) {
+            this.v = v;
+        }
+
+        public String getTag() {
+            return this.tag;
+        }
+
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+    }
+}
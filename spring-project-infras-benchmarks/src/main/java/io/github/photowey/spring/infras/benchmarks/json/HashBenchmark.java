@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HashBenchmark}
+ * <p>
+ * {@code MD5(toBytes(orders))} against streaming the serialization into the digest, plain and canonical,
+ * and {@code toBytes().length} against {@code serializedLength}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashBenchmark {
+
+    @Benchmark
+    public byte[] md5_toBytes(PayloadState state) throws Exception {
+        return MessageDigest.getInstance("MD5").digest(JSON.Jackson.toBytes(state.orders));
+    }
+
+    @Benchmark
+    public byte[] md5_hash(PayloadState state) {
+        return JSON.Jackson.hash(state.orders, "MD5");
+    }
+
+    @Benchmark
+    public byte[] md5_hash_canonical(PayloadState state) {
+        return JSON.Jackson.hash(state.orders, "MD5", true);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public int length_toBytes(PayloadState state) {
+        return JSON.Jackson.toBytes(state.orders).length;
+    }
+
+    @Benchmark
+    public long length_serializedLength(PayloadState state) {
+        return JSON.Jackson.serializedLength(state.orders);
+    }
+}
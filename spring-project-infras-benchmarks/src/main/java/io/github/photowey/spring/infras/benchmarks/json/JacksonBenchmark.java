@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.View;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JacksonBenchmark}
+ * <p>
+ * The {@code *_uncached} benchmarks build readers/writers per call, as the facade did before the reader/writer registry.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Benchmark
+    public Order parseObject(PayloadState state) {
+        return Jackson.parseObject(state.orderJson, Order.class);
+    }
+
+    @Benchmark
+    public Order parseObject_bytes(PayloadState state) {
+        return Jackson.parseObject(state.orderBytes, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> parseList(PayloadState state) {
+        return Jackson.parseList(state.ordersBytes, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> parseList_uncached(PayloadState state) throws Exception {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        return objectMapper.readValue(state.ordersBytes, objectMapper.getTypeFactory().constructCollectionType(List.class, Order.class));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public String toJSONString(PayloadState state) {
+        return Jackson.toJSONString(state.order);
+    }
+
+    @Benchmark
+    public String toJSONString_view(PayloadState state) {
+        return Jackson.toJSONString(state.order, View.Public.class);
+    }
+
+    @Benchmark
+    public String toJSONString_view_uncached(PayloadState state) throws Exception {
+        return Jackson.getObjectMapper().writer().withView(View.Public.class).writeValueAsString(state.order);
+    }
+
+    @Benchmark
+    public String toJSONString_list(PayloadState state) {
+        return Jackson.toJSONString(state.orders);
+    }
+
+    @Benchmark
+    public byte[] toBytes_list(PayloadState state) {
+        return Jackson.toBytes(state.orders);
+    }
+
+    @Benchmark
+    public String toPrettyString(PayloadState state) {
+        return Jackson.toPrettyString(state.orderJson);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Map<String, Object> toMap(PayloadState state) {
+        return Jackson.toMap(state.order);
+    }
+
+    @Benchmark
+    public Order toObject(PayloadState state) {
+        return Jackson.toObject(state.orderMap, Order.class);
+    }
+}
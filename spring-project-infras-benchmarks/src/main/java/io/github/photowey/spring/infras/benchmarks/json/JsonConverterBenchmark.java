@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.View;
+import io.github.photowey.spring.infras.core.converter.jackson.JacksonJsonConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JsonConverterBenchmark}
+ * <p>
+ * The {@link JSON.Jackson} facade and the {@link JacksonJsonConverter} over the same shared mapper.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonConverterBenchmark {
+
+    private final JacksonJsonConverter converter = Jackson::getObjectMapper;
+
+    @Benchmark
+    public Order json_parseObject(PayloadState state) {
+        return JSON.Jackson.parseObject(state.orderJson, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> json_parseList(PayloadState state) {
+        return JSON.Jackson.parseArray(state.ordersJson, Order.class);
+    }
+
+    @Benchmark
+    public String json_toJSONString_view(PayloadState state) {
+        return JSON.Jackson.toJSONString(state.order, View.Public.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Order converter_parseObject(PayloadState state) {
+        return this.converter.parseObject(state.orderJson, Order.class);
+    }
+
+    @Benchmark
+    public String converter_toJSONString(PayloadState state) {
+        return this.converter.toJSONString(state.order);
+    }
+
+    @Benchmark
+    public Map<String, Object> converter_toMap(PayloadState state) {
+        return this.converter.toMap(state.order);
+    }
+
+    @Benchmark
+    public Order converter_toObject(PayloadState state) {
+        return this.converter.toObject(state.orderMap, Order.class);
+    }
+}
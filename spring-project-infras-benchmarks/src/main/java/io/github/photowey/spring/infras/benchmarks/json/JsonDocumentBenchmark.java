@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.tape.JsonDocument;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JsonDocumentBenchmark}
+ * <p>
+ * The tape-indexed {@link JsonDocument} against a {@link JsonNode} tree from {@link Jackson#toJsonNode(byte[])}:
+ * building the document, and reading a handful of fields from an already built document (the rules-evaluation case).
+ * Run with {@code -prof gc} to compare the allocation per document.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonDocumentBenchmark {
+
+    private static final JsonPointer ITEM_SKU = JsonPointer.compile("/items/0/sku");
+
+    @State(Scope.Benchmark)
+    public static class DocumentState {
+
+        public JsonDocument document;
+        public JsonNode tree;
+
+        @Setup(Level.Trial)
+        public void setup(PayloadState payload) {
+            this.document = JsonDocument.of(payload.orderBytes);
+            this.tree = Jackson.toJsonNode(payload.orderBytes);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public JsonDocument document_build(PayloadState state) {
+        return JsonDocument.of(state.orderBytes);
+    }
+
+    @Benchmark
+    public JsonNode tree_build(PayloadState state) {
+        return Jackson.toJsonNode(state.orderBytes);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public void document_access(DocumentState state, Blackhole bh) {
+        JsonDocument document = state.document;
+        int root = document.root();
+        bh.consume(document.getLong(document.get(root, "id")));
+        bh.consume(document.getText(document.get(root, "tenantId")));
+        bh.consume(document.getText(document.get(root, "status")));
+        bh.consume(document.getLong(document.get(root, "createdAt")));
+        bh.consume(document.getText(document.at(ITEM_SKU)));
+    }
+
+    @Benchmark
+    public void tree_access(DocumentState state, Blackhole bh) {
+        JsonNode tree = state.tree;
+        bh.consume(tree.get("id").asLong());
+        bh.consume(tree.get("tenantId").asText());
+        bh.consume(tree.get("status").asText());
+        bh.consume(tree.get("createdAt").asLong());
+        bh.consume(tree.at(ITEM_SKU).asText());
+    }
+}
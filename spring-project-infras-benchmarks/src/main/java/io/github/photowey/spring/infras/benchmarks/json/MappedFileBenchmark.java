@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MappedFileBenchmark}
+ * <p>
+ * {@code parseList} of a local file through a {@link FileInputStream} against the memory-mapped {@link Path} overload.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappedFileBenchmark {
+
+    @Benchmark
+    public List<Order> parseList_fileInputStream(FileState state) throws IOException {
+        try (InputStream input = new FileInputStream(state.file.toFile())) {
+            return JSON.Jackson.parseArray(input, Order.class);
+        }
+    }
+
+    @Benchmark
+    public List<Order> parseList_mapped(FileState state) {
+        return JSON.Jackson.parseList(state.file, Order.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    @State(Scope.Benchmark)
+    public static class FileState {
+
+        public Path file;
+
+        @Setup(Level.Trial)
+        public void setup(PayloadState payload) throws IOException {
+            this.file = Files.createTempFile("infras-benchmark-", ".json");
+            Files.write(this.file, payload.ordersBytes);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(this.file);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code NumericArrayBenchmark}
+ * <p>
+ * Boxed {@code parseList} against the primitive array parsers on time-series like arrays of numbers.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericArrayBenchmark {
+
+    @Param({"1000", "200000"})
+    public int count;
+
+    public byte[] longsJson;
+    public byte[] doublesJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(17L);
+        StringBuilder longs = new StringBuilder("[");
+        StringBuilder doubles = new StringBuilder("[");
+        long timestamp = 1700000000000L;
+        for (int i = 0; i < this.count; i++) {
+            String separator = i > 0 ? "," : "";
+            longs.append(separator).append(timestamp + i * 1000L);
+            doubles.append(separator).append(Math.round(random.nextDouble() * 1_000_000D) / 100D);
+        }
+
+        this.longsJson = longs.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        this.doublesJson = doubles.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public List<Long> boxed_parseLongList() {
+        return JSON.Jackson.parseArray(this.longsJson, Long.class);
+    }
+
+    @Benchmark
+    public long[] primitive_parseLongArray() {
+        return JSON.Jackson.parseLongArray(this.longsJson);
+    }
+
+    @Benchmark
+    public List<Double> boxed_parseDoubleList() {
+        return JSON.Jackson.parseArray(this.doublesJson, Double.class);
+    }
+
+    @Benchmark
+    public double[] primitive_parseDoubleArray() {
+        return JSON.Jackson.parseDoubleArray(this.doublesJson);
+    }
+
+    @Benchmark
+    public long primitive_parseDoubleChunks(Blackhole blackhole) {
+        return JSON.Jackson.parseDoubleArray(new ByteArrayInputStream(this.doublesJson), 1 << 10, (chunk, length) -> blackhole.consume(chunk[length - 1]));
+    }
+}
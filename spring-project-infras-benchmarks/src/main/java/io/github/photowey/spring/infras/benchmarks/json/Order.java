@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.photowey.spring.infras.common.json.jackson.View;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code Order}
+ * <p>
+ * A representative DTO: scalar fields, a nested list and {@link JsonView} annotated properties.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class Order {
+
+    @JsonView(View.Public.class)
+    private Long id;
+    @JsonView(View.Public.class)
+    private String tenantId;
+    @JsonView(View.Public.class)
+    private String status;
+    private String customer;
+    private String remark;
+    private BigDecimal amount;
+    private long createdAt;
+    private List<Item> items = new ArrayList<>();
+
+    public static Order of(long id, int items) {
+        Order order = new Order();
+        order.setId(id);
+        order.setTenantId("tenant-" + (id % 8));
+        order.setStatus(id % 3 == 0 ? "PAID" : "CREATED");
+        order.setCustomer("customer-" + id);
+        order.setRemark("the quick brown fox jumps over the lazy dog");
+        order.setAmount(new BigDecimal("1024.25").add(BigDecimal.valueOf(id)));
+        order.setCreatedAt(1714497259000L + id);
+        for (int i = 0; i < items; i++) {
+            order.getItems().add(Item.of(i));
+        }
+
+        return order;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public void setRemark(String remark) {
+        this.remark = remark;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class Item {
+
+        private String sku;
+        private int quantity;
+        private double price;
+
+        public static Item of(int index) {
+            Item item = new Item();
+            item.setSku("sku-" + index);
+            item.setQuantity(index % 5 + 1);
+            item.setPrice(9.99D + index);
+
+            return item;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+}
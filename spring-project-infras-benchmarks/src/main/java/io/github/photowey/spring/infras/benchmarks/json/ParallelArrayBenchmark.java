@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ParallelArrayBenchmark}
+ * <p>
+ * Sequential {@code parseList(byte[], Class)} against the parallel split-and-join parse of a large top-level array.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelArrayBenchmark {
+
+    @Param({"2000", "20000"})
+    public int count;
+
+    public byte[] json;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Order> orders = new ArrayList<>(this.count);
+        for (long i = 0; i < this.count; i++) {
+            orders.add(Order.of(i, 20));
+        }
+
+        this.json = Jackson.toJSONString(orders).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public List<Order> parseList_sequential() {
+        return JSON.Jackson.parseArray(this.json, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> parseList_parallel() {
+        return JSON.Jackson.parseList(this.json, Order.class, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfiles;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ParallelWriteBenchmark}
+ * <p>
+ * Sequential {@code toBytes(List)} against the parallel range-and-stitch write.
+ * The pool always has at least two workers, so the parallel path runs even on a single CPU host.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelWriteBenchmark {
+
+    @Param({"10000", "100000"})
+    public int count;
+
+    public List<Order> orders;
+    public ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.orders = new ArrayList<>(this.count);
+        for (long i = 0; i < this.count; i++) {
+            this.orders.add(Order.of(i, 5));
+        }
+        this.pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public byte[] toBytes_sequential() {
+        return JSON.Jackson.toBytes(this.orders);
+    }
+
+    @Benchmark
+    public byte[] toBytes_parallel() {
+        return JSON.Jackson.toBytes(JSON.Jackson.getObjectMapper(JacksonProfiles.DEFAULT), this.orders, this.pool, 1 << 10);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonParseCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ParseCacheBenchmark}
+ * <p>
+ * Re-parsing the same order payload against a parse cache hit, shared and copied.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseCacheBenchmark {
+
+    public JacksonParseCache shared;
+    public JacksonParseCache copied;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.shared = JSON.Jackson.parseCache(JacksonParseCache.DEFAULT_MAX_ENTRIES, JacksonParseCache.DEFAULT_MAX_WEIGHT, false);
+        this.copied = JSON.Jackson.parseCache(JacksonParseCache.DEFAULT_MAX_ENTRIES, JacksonParseCache.DEFAULT_MAX_WEIGHT, true);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Order parseObject(PayloadState state) {
+        return JSON.Jackson.parseObject(state.orderBytes, Order.class);
+    }
+
+    @Benchmark
+    public Order parseCache_shared(PayloadState state) {
+        return this.shared.parseObject(state.orderBytes, Order.class);
+    }
+
+    @Benchmark
+    public Order parseCache_copy(PayloadState state) {
+        return this.copied.parseObject(state.orderBytes, Order.class);
+    }
+}
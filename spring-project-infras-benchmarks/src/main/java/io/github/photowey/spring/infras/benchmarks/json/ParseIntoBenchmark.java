@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonInstancePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ParseIntoBenchmark}
+ * <p>
+ * A fresh {@code parseObject} of a small quote message against {@code parseInto} a long-lived instance and a pooled instance.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseIntoBenchmark {
+
+    public byte[] json;
+    public Quote quote;
+    public JacksonInstancePool<Quote> pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.json = "{\"symbol\":\"600519\",\"bid\":1688.5,\"ask\":1688.8,\"bidSize\":300,\"askSize\":500,\"ts\":1760659200000}"
+                .getBytes(StandardCharsets.UTF_8);
+        this.quote = new Quote();
+        this.pool = JSON.Jackson.instancePool(Quote.class, Quote::new, null, 16);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Quote parseObject() {
+        return JSON.Jackson.parseObject(this.json, Quote.class);
+    }
+
+    @Benchmark
+    public Quote parseInto() {
+        return JSON.Jackson.parseInto(this.json, this.quote);
+    }
+
+    @Benchmark
+    public double parseInto_pooled() {
+        Quote quote = this.pool.parse(this.json);
+        double mid = (quote.getBid() + quote.getAsk()) / 2D;
+        this.pool.release(quote);
+
+        return mid;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class Quote {
+
+        private String symbol;
+        private double bid;
+        private double ask;
+        private long bidSize;
+        private long askSize;
+        private long ts;
+
+        public String getSymbol() {
+            return this.symbol;
+        }
+
+        public void setSymbol(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public double getBid() {
+            return this.bid;
+        }
+
+        public void setBid(double bid) {
+            this.bid = bid;
+        }
+
+        public double getAsk() {
+            return this.ask;
+        }
+
+        public void setAsk(double ask) {
+            this.ask = ask;
+        }
+
+        public long getBidSize() {
+            return this.bidSize;
+        }
+
+        public void setBidSize(long bidSize) {
+            this.bidSize = bidSize;
+        }
+
+        public long getAskSize() {
+            return this.askSize;
+        }
+
+        public void setAskSize(long askSize) {
+            this.askSize = askSize;
+        }
+
+        public long getTs() {
+            return this.ts;
+        }
+
+        public void setTs(long ts) {
+            this.ts = ts;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code PayloadState}
+ * <p>
+ * Shared small/medium/large payloads.
+ * {@code small}: 10 orders with 1 item, {@code medium}: 100 orders with 20 items, {@code large}: 1000 orders with 200 items.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+public class PayloadState {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    public Order order;
+    public List<Order> orders;
+    public Map<String, Object> orderMap;
+
+    public String orderJson;
+    public byte[] orderBytes;
+    public String ordersJson;
+    public byte[] ordersBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int items;
+        int count;
+        switch (this.size) {
+            case "small":
+                items = 1;
+                count = 10;
+                break;
+            case "medium":
+                items = 20;
+                count = 100;
+                break;
+            case "large":
+                items = 200;
+                count = 1000;
+                break;
+            default:
+                throw new IllegalArgumentException("benchmark: unknown payload size: " + this.size);
+        }
+
+        this.order = Order.of(1L, items);
+        this.orders = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            this.orders.add(Order.of(i, items));
+        }
+
+        this.orderMap = Jackson.toMap(this.order);
+        this.orderJson = Jackson.toJSONString(this.order);
+        this.orderBytes = this.orderJson.getBytes(StandardCharsets.UTF_8);
+        this.ordersJson = Jackson.toJSONString(this.orders);
+        this.ordersBytes = this.ordersJson.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code SliceBenchmark}
+ * <p>
+ * Parsing an order framed inside a larger buffer: copying it out first against parsing it in place,
+ * for a byte array range, a direct {@link ByteBuffer} and a {@link StringBuilder}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SliceBenchmark {
+
+    private static final int HEADER = 16;
+
+    public byte[] framed;
+    public int length;
+    public ByteBuffer direct;
+    public StringBuilder chars;
+
+    @Setup(Level.Trial)
+    public void setup(PayloadState state) {
+        this.length = state.orderBytes.length;
+        this.framed = new byte[HEADER + this.length + HEADER];
+        System.arraycopy(state.orderBytes, 0, this.framed, HEADER, this.length);
+
+        this.direct = ByteBuffer.allocateDirect(this.length);
+        this.direct.put(state.orderBytes);
+        ((Buffer) this.direct).flip();
+        this.chars = new StringBuilder(state.orderJson);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Order range_copy() {
+        return JSON.Jackson.parseObject(Arrays.copyOfRange(this.framed, HEADER, HEADER + this.length), Order.class);
+    }
+
+    @Benchmark
+    public Order range_inPlace() {
+        return JSON.Jackson.parseObject(this.framed, HEADER, this.length, Order.class);
+    }
+
+    @Benchmark
+    public Order direct_copy() {
+        byte[] bytes = new byte[this.direct.remaining()];
+        this.direct.duplicate().get(bytes);
+
+        return JSON.Jackson.parseObject(bytes, Order.class);
+    }
+
+    @Benchmark
+    public Order direct_inPlace() {
+        return JSON.Jackson.parseObject(this.direct, Order.class);
+    }
+
+    @Benchmark
+    public Order chars_toString() {
+        return JSON.Jackson.parseObject(this.chars.toString(), Order.class);
+    }
+
+    @Benchmark
+    public Order chars_inPlace() {
+        return JSON.Jackson.parseObject(this.chars, Order.class);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfiles;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonStringPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code StringPoolBenchmark}
+ * <p>
+ * {@code parseArray} of records repeating enum-like string values, with and without the string pool.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringPoolBenchmark {
+
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    public byte[] json;
+    public ObjectMapper plain;
+    public ObjectMapper pooled;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(17L);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.rows; i++) {
+            builder.append(i > 0 ? "," : "")
+                    .append("{\"id\":").append(i)
+                    .append(",\"status\":\"").append(STATUSES[random.nextInt(STATUSES.length)])
+                    .append("\",\"country\":\"C").append(random.nextInt(20))
+                    .append("\",\"tenant\":\"tenant-").append(random.nextInt(100)).append("\"}");
+        }
+
+        this.json = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        this.plain = JSON.Jackson.getObjectMapper(JacksonProfiles.DEFAULT);
+        this.pooled = JSON.Jackson.withStringPool(this.plain, new JacksonStringPool());
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public List<Record> parseArray_plain() {
+        return JSON.Jackson.parseArray(this.plain, this.json, Record.class);
+    }
+
+    @Benchmark
+    public List<Record> parseArray_pooled() {
+        return JSON.Jackson.parseArray(this.pooled, this.json, Record.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class Record {
+
+        private long id;
+        private String status;
+        private String country;
+        private String tenant;
+
+        public long getId() {
+            return this.id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getCountry() {
+            return this.country;
+        }
+
+        public void setCountry(String country) {
+            this.country = country;
+        }
+
+        public String getTenant() {
+            return this.tenant;
+        }
+
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.benchmarks.json;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ViewProjectionBenchmark}
+ * <p>
+ * A full {@code parseObject} of a large upstream document against a view-projected parse of its two header fields.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewProjectionBenchmark {
+
+    @Param({"100", "10000"})
+    public int items;
+
+    public byte[] json;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder builder = new StringBuilder("{\"id\":42,\"name\":\"upstream\",\"items\":[");
+        for (int i = 0; i < this.items; i++) {
+            builder.append(i > 0 ? "," : "")
+                    .append("{\"sku\":\"SKU-").append(i)
+                    .append("\",\"price\":").append(i * 1.25D)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"],\"attributes\":{\"color\":\"red\",\"size\":").append(i % 7).append("}}");
+        }
+
+        this.json = builder.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Document parseObject_full() {
+        return JSON.Jackson.parseObject(this.json, Document.class);
+    }
+
+    @Benchmark
+    public Document parseObject_view() {
+        return JSON.Jackson.parseObject(this.json, Document.class, Slim.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    public interface Slim {}
+
+    public static class Document {
+
+        @JsonView(Slim.class)
+        private long id;
+        @JsonView(Slim.class)
+        private String name;
+
+        private List<Map<String, Object>> items;
+
+        public long getId() {
+            return this.id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Map<String, Object>> getItems() {
+            return this.items;
+        }
+
+        public void setItems(List<Map<String, Object>> items) {
+            this.items = items;
+        }
+    }
+}
@@ -17,15 +17,37 @@ package io.github.photowey.spring.infras.common.json;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonColumnSchema;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonColumns;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonIncrementalDecoder;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonInstancePool;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonParseCache;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfile;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonStringPool;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonTransformRules;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonWarmUpReport;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * {@code JSON}
@@ -43,6 +65,63 @@ public enum JSON {
 
         ;
 
+        /**
+         * Select a named {@link ObjectMapper} profile for a call.
+         *
+         * @param profile the profile name, such as {@code strict-fast}
+         * @return {@link JacksonProfile}
+         * @since 1.6.0
+         */
+        public static JacksonProfile profile(String profile) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.profile(profile);
+        }
+
+        public static ObjectMapper getObjectMapper(String profile) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.getObjectMapper(profile);
+        }
+
+        public static void registerProfile(String profile, ObjectMapper objectMapper) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.registerProfile(profile, objectMapper);
+        }
+
+        public static void registerProfile(String profile, Supplier<ObjectMapper> factory) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.registerProfile(profile, factory);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * The string pool behind the {@code dedup} profile.
+         *
+         * @return {@link JacksonStringPool}
+         * @since 1.6.0
+         */
+        public static JacksonStringPool stringPool() {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.stringPool();
+        }
+
+        public static ObjectMapper withStringPool(ObjectMapper objectMapper, JacksonStringPool pool) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.withStringPool(objectMapper, pool);
+        }
+
+        /**
+         * Pre-resolve the serializers and deserializers of {@code types} on the shared mapper.
+         *
+         * @param types        the DTO types
+         * @param budgetMillis the time budget, {@code <= 0} means no limit
+         * @return {@link JacksonWarmUpReport}
+         * @since 1.6.0
+         */
+        public static JacksonWarmUpReport warmUp(Collection<? extends Class<?>> types, long budgetMillis) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.warmUp(types, budgetMillis);
+        }
+
+        public static CompletableFuture<JacksonWarmUpReport> warmUpAsync(Collection<? extends Class<?>> types, long budgetMillis, Executor executor) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.warmUpAsync(types, budgetMillis, executor);
+        }
+
+        // ----------------------------------------------------------------
+
         /**
          * Parse JSON Object.
          *
@@ -81,6 +160,46 @@ public enum JSON {
 
         // ----------------------------------------------------------------
 
+        /**
+         * Parse JSON Object with view, only the properties in {@code view} are bound.
+         *
+         * @param json  the string json body.
+         * @param clazz the target class.
+         * @param view  the json view.
+         * @param <T>   the target class type.
+         * @return T type.
+         * @since 1.6.0
+         */
+        public static <T> T parseObject(String json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz, view);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, String json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz, view);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> T parseObject(byte[] json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz, view);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz, view);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> T parseObject(InputStream json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz, view);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, InputStream json, Class<T> clazz, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz, view);
+        }
+
+        // ----------------------------------------------------------------
+
         public static <T> T parseObject(String json, TypeReference<T> typeRef) {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, typeRef);
         }
@@ -111,6 +230,138 @@ public enum JSON {
 
         // ----------------------------------------------------------------
 
+        /**
+         * Parse a slice of {@code json} in place, without copying it out first.
+         *
+         * @param json   the byte array holding the json body.
+         * @param offset the offset of the json body.
+         * @param length the length of the json body.
+         * @param clazz  the target class.
+         * @param <T>    T class
+         * @return T type
+         * @since 1.6.0
+         */
+        public static <T> T parseObject(byte[] json, int offset, int length, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, offset, length, clazz);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, int offset, int length, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, offset, length, clazz);
+        }
+
+        public static <T> T parseObject(byte[] json, int offset, int length, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, offset, length, typeRef);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, int offset, int length, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, offset, length, typeRef);
+        }
+
+        /**
+         * Parse the remaining bytes of a heap or direct buffer in place, its position and limit are left unchanged.
+         *
+         * @param json  the json buffer.
+         * @param clazz the target class.
+         * @param <T>   T class
+         * @return T type
+         * @since 1.6.0
+         */
+        public static <T> T parseObject(ByteBuffer json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, ByteBuffer json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz);
+        }
+
+        public static <T> T parseObject(ByteBuffer json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, typeRef);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, ByteBuffer json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, typeRef);
+        }
+
+        public static <T> T parseObject(CharSequence json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, CharSequence json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz);
+        }
+
+        public static <T> T parseObject(CharSequence json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, typeRef);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, CharSequence json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, typeRef);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * Parse JSON into an existing instance instead of a new one.
+         *
+         * @param json   the string json body.
+         * @param target the instance to update.
+         * @param <T>    the target type.
+         * @return the {@code target}.
+         * @since 1.6.0
+         */
+        public static <T> T parseInto(String json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(json, target);
+        }
+
+        public static <T> T parseInto(ObjectMapper objectMapper, String json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(objectMapper, json, target);
+        }
+
+        public static <T> T parseInto(byte[] json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(json, target);
+        }
+
+        public static <T> T parseInto(ObjectMapper objectMapper, byte[] json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(objectMapper, json, target);
+        }
+
+        public static <T> T parseInto(InputStream json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(json, target);
+        }
+
+        public static <T> T parseInto(ObjectMapper objectMapper, InputStream json, T target) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseInto(objectMapper, json, target);
+        }
+
+        public static <T> JacksonInstancePool<T> instancePool(Class<T> clazz, Supplier<? extends T> factory, Consumer<? super T> reset, int capacity) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.instancePool(clazz, factory, reset, capacity);
+        }
+
+        public static <T> JacksonInstancePool<T> instancePool(ObjectMapper objectMapper, Class<T> clazz, Supplier<? extends T> factory, Consumer<? super T> reset, int capacity) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.instancePool(objectMapper, clazz, factory, reset, capacity);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * Create a content-addressed parse cache for payloads received over and over with identical bytes.
+         *
+         * @param maxEntries the maximum cached entries
+         * @param maxWeight  the maximum total length of the cached inputs, in bytes
+         * @param copy       return a deep copy on each hit, or the shared instance
+         * @return {@link JacksonParseCache}
+         * @since 1.6.0
+         */
+        public static JacksonParseCache parseCache(int maxEntries, long maxWeight, boolean copy) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseCache(maxEntries, maxWeight, copy);
+        }
+
+        public static JacksonParseCache parseCache(ObjectMapper objectMapper, int maxEntries, long maxWeight, boolean copy) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseCache(objectMapper, maxEntries, maxWeight, copy);
+        }
+
+        // ----------------------------------------------------------------
+
         // Notes:
         // Due to the introduction of the parameter TypeReference,
         // the essence of the parseArray and toXxx methods is the same, just a name difference.
@@ -138,7 +389,7 @@ public enum JSON {
         }
 
         public static <T> List<T> parseArray(ObjectMapper objectMapper, String json, Class<T> clazz) {
-            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(json, clazz);
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(objectMapper, json, clazz);
         }
 
         // ----------------------------------------------------------------
@@ -167,7 +418,7 @@ public enum JSON {
         }
 
         public static <T> List<T> parseArray(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
-            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(json, clazz);
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(objectMapper, json, clazz);
         }
 
         // ----------------------------------------------------------------
@@ -196,7 +447,376 @@ public enum JSON {
         }
 
         public static <T> List<T> parseArray(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
-            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(json, clazz);
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseArray(objectMapper, json, clazz);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * Parse a large {@code json} Array to {@link List} in parallel, small inputs are parsed sequentially.
+         *
+         * @param json     {@code byte[]} json
+         * @param clazz    the element class type
+         * @param executor the decoding executor
+         * @param <T>      T class
+         * @return {@link List}
+         * @since 1.6.0
+         */
+        public static <T> List<T> parseList(byte[] json, Class<T> clazz, Executor executor) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(json, clazz, executor);
+        }
+
+        public static <T> List<T> parseList(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Executor executor) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(objectMapper, json, clazz, executor);
+        }
+
+        public static <T> List<T> parseList(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Executor executor, int parallelism) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(objectMapper, json, clazz, executor, parallelism);
+        }
+
+        public static <T> List<T> parseListParallel(byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseListParallel(json, clazz);
+        }
+
+        public static <T> List<T> parseListParallel(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseListParallel(objectMapper, json, clazz);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static int[] parseIntArray(String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(json);
+        }
+
+        public static int[] parseIntArray(ObjectMapper objectMapper, String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(objectMapper, json);
+        }
+
+        public static int[] parseIntArray(byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(json);
+        }
+
+        public static int[] parseIntArray(ObjectMapper objectMapper, byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(objectMapper, json);
+        }
+
+        public static int[] parseIntArray(InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(json);
+        }
+
+        public static int[] parseIntArray(ObjectMapper objectMapper, InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(objectMapper, json);
+        }
+
+        public static long parseIntArray(InputStream json, int chunkSize, ObjIntConsumer<int[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(json, chunkSize, consumer);
+        }
+
+        public static long parseIntArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<int[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseIntArray(objectMapper, json, chunkSize, consumer);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static long[] parseLongArray(String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(json);
+        }
+
+        public static long[] parseLongArray(ObjectMapper objectMapper, String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(objectMapper, json);
+        }
+
+        public static long[] parseLongArray(byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(json);
+        }
+
+        public static long[] parseLongArray(ObjectMapper objectMapper, byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(objectMapper, json);
+        }
+
+        public static long[] parseLongArray(InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(json);
+        }
+
+        public static long[] parseLongArray(ObjectMapper objectMapper, InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(objectMapper, json);
+        }
+
+        public static long parseLongArray(InputStream json, int chunkSize, ObjIntConsumer<long[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(json, chunkSize, consumer);
+        }
+
+        public static long parseLongArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<long[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseLongArray(objectMapper, json, chunkSize, consumer);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static double[] parseDoubleArray(String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(json);
+        }
+
+        public static double[] parseDoubleArray(ObjectMapper objectMapper, String json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(objectMapper, json);
+        }
+
+        public static double[] parseDoubleArray(byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(json);
+        }
+
+        public static double[] parseDoubleArray(ObjectMapper objectMapper, byte[] json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(objectMapper, json);
+        }
+
+        public static double[] parseDoubleArray(InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(json);
+        }
+
+        public static double[] parseDoubleArray(ObjectMapper objectMapper, InputStream json) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(objectMapper, json);
+        }
+
+        public static long parseDoubleArray(InputStream json, int chunkSize, ObjIntConsumer<double[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(json, chunkSize, consumer);
+        }
+
+        public static long parseDoubleArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<double[]> consumer) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseDoubleArray(objectMapper, json, chunkSize, consumer);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static JacksonColumns parseColumns(InputStream json, JacksonColumnSchema schema) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseColumns(json, schema);
+        }
+
+        public static JacksonColumns parseColumns(ObjectMapper objectMapper, InputStream json, JacksonColumnSchema schema) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseColumns(objectMapper, json, schema);
+        }
+
+        public static JacksonColumns parseColumns(byte[] json, JacksonColumnSchema schema) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseColumns(json, schema);
+        }
+
+        public static JacksonColumns parseColumns(ObjectMapper objectMapper, byte[] json, JacksonColumnSchema schema) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseColumns(objectMapper, json, schema);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> MappingIterator<T> iterateArray(InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, typeRef);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, typeRef);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(byte[] json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, typeRef);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, byte[] json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, typeRef);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> Stream<T> streamArray(InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, typeRef);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, typeRef);
+        }
+
+        public static <T> Stream<T> streamArray(byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(byte[] json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, typeRef);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, byte[] json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, typeRef);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * Parse a JSON file through memory-mapped windows, files larger than 2 GB are mapped window by window.
+         *
+         * @param json  the json file
+         * @param clazz the target class
+         * @param <T>   the target class type
+         * @return T type
+         * @since 1.6.0
+         */
+        public static <T> T parseObject(Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz);
+        }
+
+        public static <T> T parseObject(Path json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, typeRef);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, Path json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, typeRef);
+        }
+
+        public static <T> T parseObject(FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(json, clazz);
+        }
+
+        public static <T> T parseObject(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseObject(objectMapper, json, clazz);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> List<T> parseList(Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(json, clazz);
+        }
+
+        public static <T> List<T> parseList(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(objectMapper, json, clazz);
+        }
+
+        public static <T> List<T> parseList(FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(json, clazz);
+        }
+
+        public static <T> List<T> parseList(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.parseList(objectMapper, json, clazz);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> MappingIterator<T> iterateArray(Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(json, clazz);
+        }
+
+        public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.iterateArray(objectMapper, json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(json, clazz);
+        }
+
+        public static <T> Stream<T> streamArray(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.streamArray(objectMapper, json, clazz);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(Class<T> clazz, Consumer<? super T> callback) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.incrementalDecoder(clazz, callback);
+        }
+
+        public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(ObjectMapper objectMapper, Class<T> clazz, Consumer<? super T> callback) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.incrementalDecoder(objectMapper, clazz, callback);
+        }
+
+        public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(TypeReference<T> typeRef, Consumer<? super T> callback) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.incrementalDecoder(typeRef, callback);
+        }
+
+        public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(ObjectMapper objectMapper, TypeReference<T> typeRef, Consumer<? super T> callback) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.incrementalDecoder(objectMapper, typeRef, callback);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> Stream<T> readLines(InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(json, clazz);
+        }
+
+        public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(objectMapper, json, clazz);
+        }
+
+        public static <T> Stream<T> readLines(InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(json, typeRef);
+        }
+
+        public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(objectMapper, json, typeRef);
+        }
+
+        public static <T> Stream<T> readLines(InputStream json, Class<T> clazz, Executor executor) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(json, clazz, executor);
+        }
+
+        public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, Class<T> clazz, Executor executor, int batchSize) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.readLines(objectMapper, json, clazz, executor, batchSize);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> void writeLines(OutputStream output, Iterable<T> values) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeLines(output, values);
+        }
+
+        public static <T> void writeLines(ObjectMapper objectMapper, OutputStream output, Iterable<T> values) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeLines(objectMapper, output, values);
+        }
+
+        public static <T> void writeLines(OutputStream output, Stream<T> values) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeLines(output, values);
+        }
+
+        public static <T> void writeLines(ObjectMapper objectMapper, OutputStream output, Stream<T> values) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeLines(objectMapper, output, values);
         }
 
         // ----------------------------------------------------------------
@@ -322,6 +942,10 @@ public enum JSON {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.toJSONString(object, view);
         }
 
+        public static <T> String toJSONString(ObjectMapper objectMapper, T object, Class<?> view) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.toJSONString(objectMapper, object, view);
+        }
+
         public static <T> String toJSONString(T object, Function<ObjectWriter, ObjectWriter> fx) {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.toJSONString(object, fx);
         }
@@ -342,6 +966,32 @@ public enum JSON {
 
         // ----------------------------------------------------------------
 
+        public static void transform(InputStream json, OutputStream output, JacksonTransformRules rules) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(json, output, rules);
+        }
+
+        public static void transform(ObjectMapper objectMapper, InputStream json, OutputStream output, JacksonTransformRules rules) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(objectMapper, json, output, rules);
+        }
+
+        public static String transform(String json, JacksonTransformRules rules) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(json, rules);
+        }
+
+        public static String transform(ObjectMapper objectMapper, String json, JacksonTransformRules rules) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(objectMapper, json, rules);
+        }
+
+        public static byte[] transform(byte[] json, JacksonTransformRules rules) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(json, rules);
+        }
+
+        public static byte[] transform(ObjectMapper objectMapper, byte[] json, JacksonTransformRules rules) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.transform(objectMapper, json, rules);
+        }
+
+        // ----------------------------------------------------------------
+
         public static <T> byte[] toBytes(T object) {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.toBytes(object);
         }
@@ -350,6 +1000,137 @@ public enum JSON {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.toBytes(objectMapper, object);
         }
 
+        /**
+         * Serialize a large {@link List} as a JSON array in parallel, small lists are written sequentially.
+         *
+         * @param values   the values
+         * @param executor the serializing executor
+         * @return the json bytes
+         * @since 1.6.0
+         */
+        public static byte[] toBytes(List<?> values, Executor executor) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.toBytes(values, executor);
+        }
+
+        public static byte[] toBytes(ObjectMapper objectMapper, List<?> values, Executor executor, int threshold) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.toBytes(objectMapper, values, executor, threshold);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> void writeTo(OutputStream output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(output, object);
+        }
+
+        public static <T> void writeTo(ObjectMapper objectMapper, OutputStream output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(objectMapper, output, object);
+        }
+
+        public static <T> void writeTo(Writer output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(output, object);
+        }
+
+        public static <T> void writeTo(ObjectMapper objectMapper, Writer output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(objectMapper, output, object);
+        }
+
+        public static <T> void writeTo(ByteBuffer output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(output, object);
+        }
+
+        public static <T> void writeTo(ObjectMapper objectMapper, ByteBuffer output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(objectMapper, output, object);
+        }
+
+        public static <T> void writeTo(WritableByteChannel output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(output, object);
+        }
+
+        public static <T> void writeTo(ObjectMapper objectMapper, WritableByteChannel output, T object) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(objectMapper, output, object);
+        }
+
+        public static void writeTo(OutputStream output, List<?> values, Executor executor) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(output, values, executor);
+        }
+
+        public static void writeTo(ObjectMapper objectMapper, OutputStream output, List<?> values, Executor executor, int threshold) {
+            io.github.photowey.spring.infras.common.json.jackson.Jackson.writeTo(objectMapper, output, values, executor, threshold);
+        }
+
+        // ----------------------------------------------------------------
+
+        /**
+         * Hash the serialized form of an Object without materializing it, e.g. for cache keys and ETags.
+         *
+         * @param object    the target object.
+         * @param algorithm the {@code MessageDigest} algorithm, such as {@code SHA-256}.
+         * @param <T>       the target object type.
+         * @return the digest bytes
+         * @since 1.6.0
+         */
+        public static <T> byte[] hash(T object, String algorithm) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.hash(object, algorithm);
+        }
+
+        public static <T> byte[] hash(T object, String algorithm, boolean canonical) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.hash(object, algorithm, canonical);
+        }
+
+        public static <T> byte[] hash(ObjectMapper objectMapper, T object, String algorithm, boolean canonical) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.hash(objectMapper, object, algorithm, canonical);
+        }
+
+        public static <T> byte[] toCanonicalBytes(T object) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.toCanonicalBytes(object);
+        }
+
+        public static <T> byte[] toCanonicalBytes(ObjectMapper objectMapper, T object) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.toCanonicalBytes(objectMapper, object);
+        }
+
+        public static <T> long serializedLength(T object) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.serializedLength(object);
+        }
+
+        public static <T> long serializedLength(ObjectMapper objectMapper, T object) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.serializedLength(objectMapper, object);
+        }
+
+        // ----------------------------------------------------------------
+
+        public static <T> T extract(byte[] json, String pointer, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(json, pointer, clazz);
+        }
+
+        public static <T> T extract(ObjectMapper objectMapper, byte[] json, String pointer, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(objectMapper, json, pointer, clazz);
+        }
+
+        public static <T> T extract(InputStream json, String pointer, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(json, pointer, clazz);
+        }
+
+        public static <T> T extract(ObjectMapper objectMapper, InputStream json, String pointer, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(objectMapper, json, pointer, clazz);
+        }
+
+        public static Map<String, Object> extract(byte[] json, Map<String, ? extends Class<?>> pointers) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(json, pointers);
+        }
+
+        public static Map<String, Object> extract(ObjectMapper objectMapper, byte[] json, Map<String, ? extends Class<?>> pointers) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(objectMapper, json, pointers);
+        }
+
+        public static Map<String, Object> extract(InputStream json, Map<String, ? extends Class<?>> pointers) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(json, pointers);
+        }
+
+        public static Map<String, Object> extract(ObjectMapper objectMapper, InputStream json, Map<String, ? extends Class<?>> pointers) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.extract(objectMapper, json, pointers);
+        }
+
         // ----------------------------------------------------------------
 
         public static JsonNode toJsonNode(String json) {
@@ -395,6 +1176,24 @@ public enum JSON {
         public static <T> Map<String, Object> toMap(ObjectMapper objectMapper, T object) {
             return io.github.photowey.spring.infras.common.json.jackson.Jackson.toMap(objectMapper, object);
         }
+
+        // ----------------------------------------------------------------
+
+        public static <T> T convert(Object source, Class<T> targetClass) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.convert(source, targetClass);
+        }
+
+        public static <T> T convert(ObjectMapper objectMapper, Object source, Class<T> targetClass) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.convert(objectMapper, source, targetClass);
+        }
+
+        public static <T> List<T> convertAll(Collection<?> sources, Class<T> targetClass) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.convertAll(sources, targetClass);
+        }
+
+        public static <T> List<T> convertAll(ObjectMapper objectMapper, Collection<?> sources, Class<T> targetClass) {
+            return io.github.photowey.spring.infras.common.json.jackson.Jackson.convertAll(objectMapper, sources, targetClass);
+        }
     }
 
     public enum Fastjson {
@@ -407,8 +1206,102 @@ public enum JSON {
         ;
     }
 
+    /**
+     * The Smile binary dataformat, with the {@code parseObject}/{@code parseList}/{@code toBytes} surface of {@link Jackson}.
+     *
+     * @since 1.6.0
+     */
+    public enum Smile {
+
+        ;
+
+        public static ObjectMapper getObjectMapper() {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.getObjectMapper();
+        }
+
+        public static <T> T parseObject(byte[] data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseObject(data, clazz);
+        }
+
+        public static <T> T parseObject(InputStream data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseObject(data, clazz);
+        }
+
+        public static <T> T parseObject(byte[] data, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseObject(data, typeRef);
+        }
+
+        public static <T> T parseObject(InputStream data, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseObject(data, typeRef);
+        }
+
+        public static <T> List<T> parseList(byte[] data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseList(data, clazz);
+        }
+
+        public static <T> List<T> parseList(InputStream data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.parseList(data, clazz);
+        }
+
+        public static <T> byte[] toBytes(T object) {
+            return io.github.photowey.spring.infras.common.json.smile.Smile.toBytes(object);
+        }
+
+        public static <T> void writeTo(OutputStream output, T object) {
+            io.github.photowey.spring.infras.common.json.smile.Smile.writeTo(output, object);
+        }
+    }
+
+    /**
+     * The Cbor binary dataformat, with the {@code parseObject}/{@code parseList}/{@code toBytes} surface of {@link Jackson}.
+     *
+     * @since 1.6.0
+     */
+    public enum Cbor {
+
+        ;
+
+        public static ObjectMapper getObjectMapper() {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.getObjectMapper();
+        }
+
+        public static <T> T parseObject(byte[] data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseObject(data, clazz);
+        }
+
+        public static <T> T parseObject(InputStream data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseObject(data, clazz);
+        }
+
+        public static <T> T parseObject(byte[] data, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseObject(data, typeRef);
+        }
+
+        public static <T> T parseObject(InputStream data, TypeReference<T> typeRef) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseObject(data, typeRef);
+        }
+
+        public static <T> List<T> parseList(byte[] data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseList(data, clazz);
+        }
+
+        public static <T> List<T> parseList(InputStream data, Class<T> clazz) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.parseList(data, clazz);
+        }
+
+        public static <T> byte[] toBytes(T object) {
+            return io.github.photowey.spring.infras.common.json.cbor.Cbor.toBytes(object);
+        }
+
+        public static <T> void writeTo(OutputStream output, T object) {
+            io.github.photowey.spring.infras.common.json.cbor.Cbor.writeTo(output, object);
+        }
+    }
+
     public static void clean() {
         io.github.photowey.spring.infras.common.json.jackson.Jackson.clean();
+        io.github.photowey.spring.infras.common.json.smile.Smile.clean();
+        io.github.photowey.spring.infras.common.json.cbor.Cbor.clean();
         // ...
     }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.cbor;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonBinaryFormat;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonProfiles;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * {@code Cbor}
+ * <p>
+ * The CBOR (RFC 8949) facade, it shares the module, date, view and inclusion setup of the JSON mapper,
+ * see {@link JacksonProfiles#populateShared(com.fasterxml.jackson.databind.cfg.MapperBuilder)}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class Cbor {
+
+    private static final JacksonBinaryFormat FORMAT = new JacksonBinaryFormat(Cbor::initDefaultObjectMapper);
+
+    private Cbor() {
+        AssertionErrorThrower.throwz(Cbor.class);
+    }
+
+    private static ObjectMapper initDefaultObjectMapper() {
+        // @formatter:off
+        return JacksonProfiles.populateShared(CBORMapper.builder())
+                .configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true)
+                .build();
+        // @formatter:on
+    }
+
+    // ----------------------------------------------------------------
+
+    public static void injectSharedObjectMapper(ObjectMapper objectMapper) {
+        FORMAT.injectSharedObjectMapper(objectMapper);
+    }
+
+    public static ObjectMapper getObjectMapper() {
+        return FORMAT.getObjectMapper();
+    }
+
+    public static void clean() {
+        FORMAT.clean();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> T parseObject(byte[] data, Class<T> clazz) {
+        return FORMAT.parseObject(data, clazz);
+    }
+
+    public static <T> T parseObject(InputStream data, Class<T> clazz) {
+        return FORMAT.parseObject(data, clazz);
+    }
+
+    public static <T> T parseObject(byte[] data, TypeReference<T> typeRef) {
+        return FORMAT.parseObject(data, typeRef);
+    }
+
+    public static <T> T parseObject(InputStream data, TypeReference<T> typeRef) {
+        return FORMAT.parseObject(data, typeRef);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> List<T> parseList(byte[] data, Class<T> clazz) {
+        return FORMAT.parseList(data, clazz);
+    }
+
+    public static <T> List<T> parseList(InputStream data, Class<T> clazz) {
+        return FORMAT.parseList(data, clazz);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> byte[] toBytes(T object) {
+        return FORMAT.toBytes(object);
+    }
+
+    public static <T> void writeTo(OutputStream output, T object) {
+        FORMAT.writeTo(output, object);
+    }
+}
@@ -15,21 +15,42 @@
  */
 package io.github.photowey.spring.infras.common.json.jackson;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import io.github.photowey.spring.infras.common.hardware.HardwareUtils;
+import io.github.photowey.spring.infras.common.json.jackson.io.ByteBufferInputStream;
+import io.github.photowey.spring.infras.common.json.jackson.io.ByteBufferOutputStream;
+import io.github.photowey.spring.infras.common.json.jackson.io.ByteBufferPool;
+import io.github.photowey.spring.infras.common.json.jackson.io.ChannelOutputStream;
+import io.github.photowey.spring.infras.common.json.jackson.io.CharSequenceReader;
+import io.github.photowey.spring.infras.common.json.jackson.io.CountingOutputStream;
+import io.github.photowey.spring.infras.common.json.jackson.io.HashingOutputStream;
+import io.github.photowey.spring.infras.common.json.jackson.io.MappedFileInputStream;
 import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
 
-import java.io.InputStream;
+import java.io.*;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@code Jackson}
@@ -48,41 +69,167 @@ public final class Jackson {
 
     private static final ConcurrentHashMap<Class<ObjectMapper>, ObjectMapper> ctx = new ConcurrentHashMap<>(2);
 
-    private static ObjectMapper initDefaultObjectMapper() {
-        JsonMapper.Builder builder = JsonMapper.builder()
-                .configure(JsonParser.Feature.ALLOW_COMMENTS, true)
-                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
-                .configure(JsonParser.Feature.IGNORE_UNDEFINED, true)
-                .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
+    public static final int DEFAULT_LINES_BATCH_SIZE = 1 << 10;
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
 
-                //.configure(DeserializationFeature.USE_LONG_FOR_INTS, true)
+    private static final int PARALLEL_MIN_CHUNK_SIZE = 1 << 16;
 
-                .configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true)
-                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true)
-                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+    public static final int DEFAULT_PARALLEL_WRITE_THRESHOLD = 1 << 13;
 
-                // Exclude properties not annotated with @JsonView
-                .configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false)
-                .addModule(new JavaTimeModule());
+    private static final String LINE_SEPARATOR = "\n";
 
-        JsonMapper jsonMapper = builder.build();
-        jsonMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final ByteBufferPool bufferPool = new ByteBufferPool(HardwareUtils.getDoubleNcpu(), ByteBufferPool.DEFAULT_BUFFER_SIZE, true);
 
-        return jsonMapper;
+    private static final ConcurrentHashMap<String, Supplier<ObjectMapper>> profileFactories = new ConcurrentHashMap<>(4);
+    private static final ConcurrentHashMap<String, ObjectMapper> profiles = new ConcurrentHashMap<>(4);
+    private static final ConcurrentHashMap<String, JacksonProfile> profileHandles = new ConcurrentHashMap<>(4);
+
+    private static ObjectMapper initDefaultObjectMapper() {
+        return JacksonProfiles.builder(JacksonProfiles.DEFAULT).build();
     }
 
     // ----------------------------------------------------------------
 
     public static void injectSharedObjectMapper(ObjectMapper objectMapper) {
         sharedObjectMapper = objectMapper;
+        JacksonRegistry.clean();
+        JacksonBeanConverter.clean();
+        JacksonCanonical.clean();
     }
 
     public static ObjectMapper getObjectMapper() {
         return sharedObjectMapper != null ? sharedObjectMapper : ctx.computeIfAbsent(ObjectMapper.class, (x) -> initDefaultObjectMapper());
     }
 
+    /**
+     * Get the {@link ObjectMapper} of a named profile.
+     * <p>
+     * The {@link JacksonProfiles#DEFAULT} profile is the shared mapper, see {@link #getObjectMapper()}.
+     *
+     * @param profile the profile name, such as {@link JacksonProfiles#STRICT_FAST}
+     * @return {@link ObjectMapper}
+     * @since 1.6.0
+     */
+    public static ObjectMapper getObjectMapper(String profile) {
+        if (JacksonProfiles.DEFAULT.equals(profile)) {
+            return getObjectMapper();
+        }
+
+        return profiles.computeIfAbsent(profile, (x) -> {
+            Supplier<ObjectMapper> factory = profileFactories.get(profile);
+            if (null != factory) {
+                return factory.get();
+            }
+            if (JacksonProfiles.isBuiltin(profile)) {
+                return JacksonProfiles.builder(profile).build();
+            }
+
+            throw new IllegalArgumentException("infras: unknown json profile: " + profile);
+        });
+    }
+
+    /**
+     * Select a named profile for a call, e.g. {@code Jackson.profile("strict-fast").parseObject(json, Quote.class)}.
+     *
+     * @param profile the profile name
+     * @return {@link JacksonProfile}
+     * @since 1.6.0
+     */
+    public static JacksonProfile profile(String profile) {
+        JacksonProfile handle = profileHandles.get(profile);
+        if (null != handle) {
+            return handle;
+        }
+        getObjectMapper(profile);
+
+        return profileHandles.computeIfAbsent(profile, JacksonProfile::new);
+    }
+
+    public static void registerProfile(String profile, ObjectMapper objectMapper) {
+        checkNPE(objectMapper);
+        registerProfile(profile, () -> objectMapper);
+    }
+
+    /**
+     * Register (or replace) a named profile, the mapper is created on first use.
+     *
+     * @param profile the profile name, {@link JacksonProfiles#DEFAULT} is reserved for the shared mapper
+     * @param factory the mapper factory
+     * @since 1.6.0
+     */
+    public static void registerProfile(String profile, Supplier<ObjectMapper> factory) {
+        if (JacksonProfiles.DEFAULT.equals(profile)) {
+            throw new IllegalArgumentException("infras: the default json profile is the shared mapper, use injectSharedObjectMapper() instead.");
+        }
+        profileFactories.put(profile, factory);
+        ObjectMapper stale = profiles.remove(profile);
+        if (null != stale) {
+            JacksonRegistry.clean();
+            JacksonBeanConverter.clean();
+            JacksonCanonical.clean();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The string pool behind the {@link JacksonProfiles#DEDUP} profile, e.g. to read its {@link JacksonStringPool#stats()}.
+     *
+     * @return {@link JacksonStringPool}
+     * @since 1.6.0
+     */
+    public static JacksonStringPool stringPool() {
+        return JacksonStringPool.shared();
+    }
+
+    /**
+     * Copy {@code objectMapper} with string values canonicalized through {@code pool}.
+     * <p>
+     * Worth it for large payloads that repeat enum-like values (status codes, country codes, tenant ids):
+     * the result types are unchanged, but equal values share one {@link String}.
+     *
+     * @param objectMapper the base mapper, left untouched
+     * @param pool         the string pool
+     * @return the deduplicating {@link ObjectMapper} copy
+     * @since 1.6.0
+     */
+    public static ObjectMapper withStringPool(ObjectMapper objectMapper, JacksonStringPool pool) {
+        checkNPE(objectMapper);
+        Objects.requireNonNull(pool, "infras: the string pool can't be null.");
+
+        return objectMapper.copy().registerModule(pool.module());
+    }
+
+    /**
+     * Pre-resolve the serializers and deserializers of {@code types} on the shared mapper.
+     *
+     * @param types        the DTO types
+     * @param budgetMillis the time budget, {@code <= 0} means no limit
+     * @return {@link JacksonWarmUpReport}
+     * @since 1.6.0
+     */
+    public static JacksonWarmUpReport warmUp(Collection<? extends Class<?>> types, long budgetMillis) {
+        return JacksonWarmer.warmUp(getObjectMapper(), types, budgetMillis);
+    }
+
+    public static CompletableFuture<JacksonWarmUpReport> warmUpAsync(Collection<? extends Class<?>> types, long budgetMillis, Executor executor) {
+        return JacksonWarmer.warmUpAsync(getObjectMapper(), types, budgetMillis, executor);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Drop the built mappers and every cache derived from them.
+     * The registered profile factories are kept, their mappers are rebuilt lazily.
+     */
     public static void clean() {
         ctx.clear();
+        profiles.clear();
+        profileHandles.clear();
+        JacksonRegistry.clean();
+        JacksonBeanConverter.clean();
+        JacksonCanonical.clean();
     }
 
     // ----------------------------------------------------------------
@@ -102,7 +249,7 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, String json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, clazz);
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -117,7 +264,7 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, clazz);
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -132,7 +279,66 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, clazz);
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse JSON Object with view, the read-side counterpart of {@link #toJSONString(Object, Class)}.
+     * <p>
+     * Only the properties in {@code view} are bound, the values of the others are skipped at the token level without being decoded,
+     * so a slim projection of a large document is cheap. With {@code MapperFeature.DEFAULT_VIEW_INCLUSION} disabled (the default profiles),
+     * properties without {@code @JsonView} are skipped too.
+     *
+     * @param json  the string json body.
+     * @param clazz the target class.
+     * @param view  the json view, {@code null} means no view.
+     * @param <T>   the target class type.
+     * @return T type.
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(String json, Class<T> clazz, Class<?> view) {
+        return parseObject(getObjectMapper(), json, clazz, view);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, String json, Class<T> clazz, Class<?> view) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz, view).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> T parseObject(byte[] json, Class<T> clazz, Class<?> view) {
+        return parseObject(getObjectMapper(), json, clazz, view);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Class<?> view) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz, view).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> T parseObject(InputStream json, Class<T> clazz, Class<?> view) {
+        return parseObject(getObjectMapper(), json, clazz, view);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, InputStream json, Class<T> clazz, Class<?> view) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz, view).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -147,7 +353,7 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, String json, TypeReference<T> typeRef) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, typeRef);
+            return JacksonRegistry.reader(objectMapper, typeRef).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -162,7 +368,7 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, TypeReference<T> typeRef) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, typeRef);
+            return JacksonRegistry.reader(objectMapper, typeRef).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -177,12 +383,266 @@ public final class Jackson {
     public static <T> T parseObject(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.readValue(json, typeRef);
+            return JacksonRegistry.reader(objectMapper, typeRef).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse the {@code length} bytes of {@code json} starting at {@code offset} in place,
+     * e.g. a message inside a larger network or record buffer, without copying it out first.
+     *
+     * @param json   the byte array holding the json body.
+     * @param offset the offset of the json body.
+     * @param length the length of the json body.
+     * @param clazz  the target class.
+     * @param <T>    T class
+     * @return T type
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds.
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(byte[] json, int offset, int length, Class<T> clazz) {
+        return parseObject(getObjectMapper(), json, offset, length, clazz);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, int offset, int length, Class<T> clazz) {
+        checkNPE(objectMapper);
+        checkRange(json, offset, length);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(json, offset, length);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseObject(byte[] json, int offset, int length, TypeReference<T> typeRef) {
+        return parseObject(getObjectMapper(), json, offset, length, typeRef);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, byte[] json, int offset, int length, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        checkRange(json, offset, length);
+        try {
+            return JacksonRegistry.reader(objectMapper, typeRef).readValue(json, offset, length);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse the remaining bytes of {@code json}, between its position and limit, in place.
+     * <p>
+     * A heap buffer is parsed straight from its backing array; a direct (or read-only) buffer is streamed
+     * through the parser's own recycled buffer, without materializing a {@code byte[]}.
+     * The position and limit of {@code json} are left unchanged.
+     *
+     * @param json  the json buffer, heap or direct.
+     * @param clazz the target class.
+     * @param <T>   T class
+     * @return T type
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(ByteBuffer json, Class<T> clazz) {
+        return parseObject(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, ByteBuffer json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return readValue(JacksonRegistry.reader(objectMapper, clazz), json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseObject(ByteBuffer json, TypeReference<T> typeRef) {
+        return parseObject(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, ByteBuffer json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        try {
+            return readValue(JacksonRegistry.reader(objectMapper, typeRef), json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse a {@link CharSequence}, such as a {@link StringBuilder} or a {@link java.nio.CharBuffer}, without {@code toString()}.
+     * A {@link String} is parsed as {@link #parseObject(String, Class)}.
+     *
+     * @param json  the json chars.
+     * @param clazz the target class.
+     * @param <T>   T class
+     * @return T type
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(CharSequence json, Class<T> clazz) {
+        return parseObject(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, CharSequence json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return readValue(JacksonRegistry.reader(objectMapper, clazz), json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseObject(CharSequence json, TypeReference<T> typeRef) {
+        return parseObject(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, CharSequence json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        try {
+            return readValue(JacksonRegistry.reader(objectMapper, typeRef), json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    private static <T> T readValue(ObjectReader reader, ByteBuffer json) throws IOException {
+        Objects.requireNonNull(json, "infras: the json buffer can't be null.");
+        if (json.hasArray()) {
+            return reader.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+        }
+
+        // Read a duplicate, so the caller's position stays where it was.
+        return reader.readValue(new ByteBufferInputStream(json.duplicate()));
+    }
+
+    private static <T> T readValue(ObjectReader reader, CharSequence json) throws IOException {
+        Objects.requireNonNull(json, "infras: the json chars can't be null.");
+        if (json instanceof String) {
+            return reader.readValue((String) json);
+        }
+
+        return reader.readValue(new CharSequenceReader(json));
+    }
+
+    private static void checkRange(byte[] json, int offset, int length) {
+        Objects.requireNonNull(json, "infras: the json can't be null.");
+        if ((offset | length) < 0 || offset > json.length - length) {
+            throw new IndexOutOfBoundsException(String.format("infras: the range [%d, %d + %d) is out of the json bounds: %d.", offset, offset, length, json.length));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse JSON into an existing instance instead of a new one, built on {@link ObjectMapper#readerForUpdating(Object)}.
+     * <p>
+     * Properties present in the JSON overwrite those of {@code target}, the others are left as they are;
+     * nested beans and collections are replaced, not merged, unless annotated with {@code @JsonMerge}.
+     * See {@link #instancePool(Class, Supplier, Consumer, int)} to recycle the instances.
+     *
+     * @param json   the string json body.
+     * @param target the instance to update.
+     * @param <T>    the target type.
+     * @return the {@code target}.
+     * @since 1.6.0
+     */
+    public static <T> T parseInto(String json, T target) {
+        return parseInto(getObjectMapper(), json, target);
+    }
+
+    public static <T> T parseInto(ObjectMapper objectMapper, String json, T target) {
+        checkNPE(objectMapper);
+        try {
+            return updater(objectMapper, target).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseInto(byte[] json, T target) {
+        return parseInto(getObjectMapper(), json, target);
+    }
+
+    public static <T> T parseInto(ObjectMapper objectMapper, byte[] json, T target) {
+        checkNPE(objectMapper);
+        try {
+            return updater(objectMapper, target).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseInto(InputStream json, T target) {
+        return parseInto(getObjectMapper(), json, target);
+    }
+
+    public static <T> T parseInto(ObjectMapper objectMapper, InputStream json, T target) {
+        checkNPE(objectMapper);
+        try {
+            return updater(objectMapper, target).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
     }
 
+    private static ObjectReader updater(ObjectMapper objectMapper, Object target) {
+        Objects.requireNonNull(target, "infras: the target can't be null.");
+
+        // The reader of the target class is cached, only the light-weight updating copy is created per call.
+        return JacksonRegistry.reader(objectMapper, target.getClass()).withValueToUpdate(target);
+    }
+
+    /**
+     * Create a bounded pool of {@code clazz} instances to parse into, see {@link JacksonInstancePool}.
+     *
+     * @param clazz    the DTO class
+     * @param factory  the instance factory, such as {@code Quote::new}
+     * @param reset    clears an instance on release, may be {@code null}
+     * @param capacity the maximum pooled instances
+     * @param <T>      T class
+     * @return {@link JacksonInstancePool}
+     * @since 1.6.0
+     */
+    public static <T> JacksonInstancePool<T> instancePool(Class<T> clazz, Supplier<? extends T> factory, Consumer<? super T> reset, int capacity) {
+        return instancePool(getObjectMapper(), clazz, factory, reset, capacity);
+    }
+
+    public static <T> JacksonInstancePool<T> instancePool(ObjectMapper objectMapper, Class<T> clazz, Supplier<? extends T> factory, Consumer<? super T> reset, int capacity) {
+        checkNPE(objectMapper);
+
+        return new JacksonInstancePool<>(objectMapper, clazz, factory, reset, capacity);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Create a content-addressed parse cache, see {@link JacksonParseCache}.
+     * <p>
+     * Worth it for payloads received over and over with identical bytes, such as config blobs and reference data:
+     * a hit costs a hash and a comparison of the input instead of a parse.
+     *
+     * @param maxEntries the maximum cached entries
+     * @param maxWeight  the maximum total length of the cached inputs, in bytes
+     * @param copy       return a deep copy on each hit, or the shared (to be treated as immutable) instance
+     * @return {@link JacksonParseCache}
+     * @since 1.6.0
+     */
+    public static JacksonParseCache parseCache(int maxEntries, long maxWeight, boolean copy) {
+        return parseCache(getObjectMapper(), maxEntries, maxWeight, copy);
+    }
+
+    public static JacksonParseCache parseCache(ObjectMapper objectMapper, int maxEntries, long maxWeight, boolean copy) {
+        checkNPE(objectMapper);
+
+        return new JacksonParseCache(objectMapper, maxEntries, maxWeight, copy);
+    }
+
     // ----------------------------------------------------------------
 
     // Notes:
@@ -294,9 +754,7 @@ public final class Jackson {
     public static <T> List<T> parseList(ObjectMapper objectMapper, String json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(List.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, List.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -318,9 +776,7 @@ public final class Jackson {
     public static <T> List<T> parseList(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(List.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, List.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -342,9 +798,7 @@ public final class Jackson {
     public static <T> List<T> parseList(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(List.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, List.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -353,24 +807,317 @@ public final class Jackson {
     // ----------------------------------------------------------------
 
     /**
-     * Parse {@code json} Array to {@link Set}
+     * Parse a large {@code json} Array to {@link List} in parallel, on {@link ForkJoinPool#commonPool()}.
      *
-     * @param json  {@link String} json
-     * @param clazz the target class type
+     * @param json  {@code byte[]} json
+     * @param clazz the element class type
      * @param <T>   T class
-     * @return T
+     * @return {@link List}
+     * @see #parseList(byte[], Class, Executor)
      * @since 1.6.0
      */
-    public static <T> Set<T> parseSet(String json, Class<T> clazz) {
+    public static <T> List<T> parseListParallel(byte[] json, Class<T> clazz) {
+        return parseListParallel(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> List<T> parseListParallel(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+        return parseList(objectMapper, json, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parse a large {@code json} Array to {@link List} in parallel.
+     * <p>
+     * A structural pre-scan splits the top-level array at element boundaries, the ranges are bound on the given {@code executor}
+     * and joined in input order. Inputs under {@link #DEFAULT_PARALLEL_THRESHOLD} bytes, a single-threaded executor,
+     * and anything but a strict JSON array (comments, single quotes, trailing commas, ...) are parsed sequentially.
+     * So are element types using object ids ({@code @JsonIdentityInfo}) or managed/back references,
+     * which only resolve within one parse.
+     * <p>
+     * The parallelism is that of a {@link ForkJoinPool}, the maximum pool size of a {@link ThreadPoolExecutor}
+     * (at most the processor count), and the processor count for any other executor:
+     * pass it explicitly with {@link #parseList(ObjectMapper, byte[], Class, Executor, int)} when that is wrong.
+     * <p>
+     * If a range fails to bind, the whole input is parsed again sequentially, so the thrown exception
+     * (type, path and line/column) is the one of {@link #parseList(byte[], Class)}, not one relative to the range.
+     *
+     * @param json     {@code byte[]} json
+     * @param clazz    the element class type
+     * @param executor the decoding executor, such as {@link ForkJoinPool#commonPool()}
+     * @param <T>      T class
+     * @return {@link List}
+     * @since 1.6.0
+     */
+    public static <T> List<T> parseList(byte[] json, Class<T> clazz, Executor executor) {
+        return parseList(getObjectMapper(), json, clazz, executor);
+    }
+
+    public static <T> List<T> parseList(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Executor executor) {
+        return parseList(objectMapper, json, clazz, executor, parallelism(executor));
+    }
+
+    public static <T> List<T> parseList(ObjectMapper objectMapper, byte[] json, Class<T> clazz, Executor executor, int parallelism) {
+        checkNPE(objectMapper);
+        if (null != json && json.length >= DEFAULT_PARALLEL_THRESHOLD && parallelism > 1
+                && JacksonParallelArrays.isSplittable(objectMapper, objectMapper.constructType(clazz))) {
+            int parts = Math.min(parallelism << 2, json.length / PARALLEL_MIN_CHUNK_SIZE);
+            int[] boundaries = JacksonParallelArrays.split(json, parts);
+            if (null != boundaries) {
+                ObjectReader reader = JacksonRegistry.collectionReader(objectMapper, List.class, clazz);
+                return JacksonParallelArrays.parseList(reader, json, boundaries, executor);
+            }
+        }
+
+        return parseList(objectMapper, json, clazz);
+    }
+
+    static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            return Math.min(((ThreadPoolExecutor) executor).getMaximumPoolSize(), HardwareUtils.getNcpu());
+        }
+
+        return HardwareUtils.getNcpu();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse a {@code json} Array of numbers to an {@code int[]}, the values are read without boxing.
+     *
+     * @param json {@code String} json
+     * @return {@code int[]}, {@code null} for a {@code null} json value
+     * @since 1.6.0
+     */
+    public static int[] parseIntArray(String json) {
+        return parseIntArray(getObjectMapper(), json);
+    }
+
+    public static int[] parseIntArray(ObjectMapper objectMapper, String json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readInts(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length()));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static int[] parseIntArray(byte[] json) {
+        return parseIntArray(getObjectMapper(), json);
+    }
+
+    public static int[] parseIntArray(ObjectMapper objectMapper, byte[] json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readInts(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static int[] parseIntArray(InputStream json) {
+        return parseIntArray(getObjectMapper(), json);
+    }
+
+    public static int[] parseIntArray(ObjectMapper objectMapper, InputStream json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readInts(objectMapper, parser, 0);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Parse a {@code json} Array of numbers in chunks of up to {@code chunkSize} values,
+     * handing each chunk and its length to {@code consumer}, e.g. for arrays too large to hold at once.
+     * <p>
+     * The chunk array is reused across calls, the consumer must copy the values it keeps.
+     *
+     * @param json      {@link InputStream} json
+     * @param chunkSize the maximum chunk length
+     * @param consumer  the (chunk, length) consumer
+     * @return the number of values read
+     * @since 1.6.0
+     */
+    public static long parseIntArray(InputStream json, int chunkSize, ObjIntConsumer<int[]> consumer) {
+        return parseIntArray(getObjectMapper(), json, chunkSize, consumer);
+    }
+
+    public static long parseIntArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<int[]> consumer) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readInts(objectMapper, parser, chunkSize, consumer);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public static long[] parseLongArray(String json) {
+        return parseLongArray(getObjectMapper(), json);
+    }
+
+    public static long[] parseLongArray(ObjectMapper objectMapper, String json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readLongs(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length()));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static long[] parseLongArray(byte[] json) {
+        return parseLongArray(getObjectMapper(), json);
+    }
+
+    public static long[] parseLongArray(ObjectMapper objectMapper, byte[] json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readLongs(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static long[] parseLongArray(InputStream json) {
+        return parseLongArray(getObjectMapper(), json);
+    }
+
+    public static long[] parseLongArray(ObjectMapper objectMapper, InputStream json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readLongs(objectMapper, parser, 0);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static long parseLongArray(InputStream json, int chunkSize, ObjIntConsumer<long[]> consumer) {
+        return parseLongArray(getObjectMapper(), json, chunkSize, consumer);
+    }
+
+    public static long parseLongArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<long[]> consumer) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readLongs(objectMapper, parser, chunkSize, consumer);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public static double[] parseDoubleArray(String json) {
+        return parseDoubleArray(getObjectMapper(), json);
+    }
+
+    public static double[] parseDoubleArray(ObjectMapper objectMapper, String json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readDoubles(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length()));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static double[] parseDoubleArray(byte[] json) {
+        return parseDoubleArray(getObjectMapper(), json);
+    }
+
+    public static double[] parseDoubleArray(ObjectMapper objectMapper, byte[] json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readDoubles(objectMapper, parser, JacksonPrimitiveArrays.capacity(json.length));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static double[] parseDoubleArray(InputStream json) {
+        return parseDoubleArray(getObjectMapper(), json);
+    }
+
+    public static double[] parseDoubleArray(ObjectMapper objectMapper, InputStream json) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readDoubles(objectMapper, parser, 0);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static long parseDoubleArray(InputStream json, int chunkSize, ObjIntConsumer<double[]> consumer) {
+        return parseDoubleArray(getObjectMapper(), json, chunkSize, consumer);
+    }
+
+    public static long parseDoubleArray(ObjectMapper objectMapper, InputStream json, int chunkSize, ObjIntConsumer<double[]> consumer) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return JacksonPrimitiveArrays.readDoubles(objectMapper, parser, chunkSize, consumer);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Decode a {@code json} Array of homogeneous row objects into columns (struct-of-arrays),
+     * without per-row objects: primitive arrays for numbers and booleans, dictionary encoded strings.
+     *
+     * @param json   {@link InputStream} json
+     * @param schema the columns to decode, other members are skipped
+     * @return {@link JacksonColumns}, {@code null} for a {@code null} json value
+     * @since 1.6.0
+     */
+    public static JacksonColumns parseColumns(InputStream json, JacksonColumnSchema schema) {
+        return parseColumns(getObjectMapper(), json, schema);
+    }
+
+    public static JacksonColumns parseColumns(ObjectMapper objectMapper, InputStream json, JacksonColumnSchema schema) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return new JacksonColumnDecoder(objectMapper, schema).decode(parser);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static JacksonColumns parseColumns(byte[] json, JacksonColumnSchema schema) {
+        return parseColumns(getObjectMapper(), json, schema);
+    }
+
+    public static JacksonColumns parseColumns(ObjectMapper objectMapper, byte[] json, JacksonColumnSchema schema) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return new JacksonColumnDecoder(objectMapper, schema).decode(parser);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse {@code json} Array to {@link Set}
+     *
+     * @param json  {@link String} json
+     * @param clazz the target class type
+     * @param <T>   T class
+     * @return T
+     * @since 1.6.0
+     */
+    public static <T> Set<T> parseSet(String json, Class<T> clazz) {
         return parseSet(getObjectMapper(), json, clazz);
     }
 
     public static <T> Set<T> parseSet(ObjectMapper objectMapper, String json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Set.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, Set.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -392,9 +1139,7 @@ public final class Jackson {
     public static <T> Set<T> parseSet(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Set.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, Set.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -416,9 +1161,7 @@ public final class Jackson {
     public static <T> Set<T> parseSet(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Set.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, Set.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -442,9 +1185,7 @@ public final class Jackson {
     public static <T> Collection<T> parseCollection(ObjectMapper objectMapper, String json, Class<T> clazz) {
         checkNPE(objectMapper);
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Collection.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+            return JacksonRegistry.collectionReader(objectMapper, Collection.class, clazz).readValue(json);
         } catch (Exception e) {
             return throwUnchecked(e);
         }
@@ -465,36 +1206,476 @@ public final class Jackson {
 
     public static <T> Collection<T> parseCollection(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
         checkNPE(objectMapper);
-        try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Collection.class, clazz);
-            return objectMapper.readValue(json, collectionType);
-        } catch (Exception e) {
-            return throwUnchecked(e);
-        }
+        try {
+            return JacksonRegistry.collectionReader(objectMapper, Collection.class, clazz).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Parse {@code json} Array to {@link Collection}
+     *
+     * @param json  {@link InputStream} json
+     * @param clazz the target class type
+     * @param <T>   T class
+     * @return T
+     * @since 1.6.0
+     */
+    public static <T> Collection<T> parseCollection(InputStream json, Class<T> clazz) {
+        return parseCollection(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> Collection<T> parseCollection(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.collectionReader(objectMapper, Collection.class, clazz).readValue(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Lazily iterate the elements of a {@code json} Array.
+     * <p>
+     * Elements are bound one at a time while the iterator is consumed, so memory stays constant
+     * regardless of the array size. The returned iterator must be closed, which also closes the {@code json} source.
+     *
+     * @param json  {@link InputStream} json
+     * @param clazz the element class type
+     * @param <T>   T class
+     * @return {@link MappingIterator}
+     * @since 1.6.0
+     */
+    public static <T> MappingIterator<T> iterateArray(InputStream json, Class<T> clazz) {
+        return iterateArray(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValues(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> MappingIterator<T> iterateArray(byte[] json, Class<T> clazz) {
+        return iterateArray(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValues(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> MappingIterator<T> iterateArray(InputStream json, TypeReference<T> typeRef) {
+        return iterateArray(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, typeRef).readValues(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> MappingIterator<T> iterateArray(byte[] json, TypeReference<T> typeRef) {
+        return iterateArray(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, byte[] json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, typeRef).readValues(json);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Lazily stream the elements of a {@code json} Array.
+     * <p>
+     * The returned {@link Stream} should be used within a try-with-resources block,
+     * closing it releases the underlying parser and the {@code json} source.
+     *
+     * @param json  {@link InputStream} json
+     * @param clazz the element class type
+     * @param <T>   T class
+     * @return {@link Stream}
+     * @since 1.6.0
+     */
+    public static <T> Stream<T> streamArray(InputStream json, Class<T> clazz) {
+        return toStream(iterateArray(json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+        return toStream(iterateArray(objectMapper, json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(byte[] json, Class<T> clazz) {
+        return toStream(iterateArray(json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, byte[] json, Class<T> clazz) {
+        return toStream(iterateArray(objectMapper, json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(InputStream json, TypeReference<T> typeRef) {
+        return toStream(iterateArray(json, typeRef));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+        return toStream(iterateArray(objectMapper, json, typeRef));
+    }
+
+    public static <T> Stream<T> streamArray(byte[] json, TypeReference<T> typeRef) {
+        return toStream(iterateArray(json, typeRef));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, byte[] json, TypeReference<T> typeRef) {
+        return toStream(iterateArray(objectMapper, json, typeRef));
+    }
+
+    private static <T> Stream<T> toStream(Iterator<T> iterator) {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            if (iterator instanceof Closeable) {
+                try {
+                    ((Closeable) iterator).close();
+                } catch (Exception e) {
+                    throwUnchecked(e);
+                }
+            }
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse a JSON file through memory-mapped windows, see {@link MappedFileInputStream}.
+     * <p>
+     * Bytes are copied from the page cache straight into the parser buffer instead of through a {@link FileInputStream},
+     * files larger than 2 GB are mapped window by window.
+     *
+     * @param json  the json file
+     * @param clazz the target class
+     * @param <T>   the target class type
+     * @return T type
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(Path json, Class<T> clazz) {
+        return parseObject(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try (InputStream input = MappedFileInputStream.open(json)) {
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(input);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> T parseObject(Path json, TypeReference<T> typeRef) {
+        return parseObject(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, Path json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        try (InputStream input = MappedFileInputStream.open(json)) {
+            return JacksonRegistry.reader(objectMapper, typeRef).readValue(input);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Parse a {@link FileChannel} from its current position to its end, through memory-mapped windows.
+     * The channel is left open and its position is not advanced.
+     *
+     * @param json  the json file channel
+     * @param clazz the target class
+     * @param <T>   the target class type
+     * @return T type
+     * @since 1.6.0
+     */
+    public static <T> T parseObject(FileChannel json, Class<T> clazz) {
+        return parseObject(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> T parseObject(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(new MappedFileInputStream(json));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> List<T> parseList(Path json, Class<T> clazz) {
+        return parseList(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> List<T> parseList(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try (InputStream input = MappedFileInputStream.open(json)) {
+            return JacksonRegistry.collectionReader(objectMapper, List.class, clazz).readValue(input);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> List<T> parseList(FileChannel json, Class<T> clazz) {
+        return parseList(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> List<T> parseList(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.collectionReader(objectMapper, List.class, clazz).readValue(new MappedFileInputStream(json));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Lazily iterate the elements of a {@code json} Array file through memory-mapped windows,
+     * closing the iterator closes the file.
+     *
+     * @param json  the json file
+     * @param clazz the element class type
+     * @param <T>   T class
+     * @return {@link MappingIterator}
+     * @since 1.6.0
+     */
+    public static <T> MappingIterator<T> iterateArray(Path json, Class<T> clazz) {
+        return iterateArray(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            InputStream input = MappedFileInputStream.open(json);
+            try {
+                return JacksonRegistry.reader(objectMapper, clazz).readValues(input);
+            } catch (Exception e) {
+                input.close();
+                throw e;
+            }
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Lazily iterate the elements of a {@code json} Array channel through memory-mapped windows,
+     * the channel is left open.
+     *
+     * @param json  the json file channel
+     * @param clazz the element class type
+     * @param <T>   T class
+     * @return {@link MappingIterator}
+     * @since 1.6.0
+     */
+    public static <T> MappingIterator<T> iterateArray(FileChannel json, Class<T> clazz) {
+        return iterateArray(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> MappingIterator<T> iterateArray(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValues(new MappedFileInputStream(json));
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static <T> Stream<T> streamArray(Path json, Class<T> clazz) {
+        return toStream(iterateArray(json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, Path json, Class<T> clazz) {
+        return toStream(iterateArray(objectMapper, json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(FileChannel json, Class<T> clazz) {
+        return toStream(iterateArray(json, clazz));
+    }
+
+    public static <T> Stream<T> streamArray(ObjectMapper objectMapper, FileChannel json, Class<T> clazz) {
+        return toStream(iterateArray(objectMapper, json, clazz));
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Create a push-style decoder for a body that arrives in chunks, see {@link JacksonIncrementalDecoder}.
+     *
+     * @param clazz    the value (or Array element) class type, a collection or array type receives each top-level Array whole
+     * @param callback the consumer of each completed value
+     * @param <T>      T class
+     * @return {@link JacksonIncrementalDecoder}
+     * @since 1.6.0
+     */
+    public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(Class<T> clazz, Consumer<? super T> callback) {
+        return incrementalDecoder(getObjectMapper(), clazz, callback);
+    }
+
+    public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(ObjectMapper objectMapper, Class<T> clazz, Consumer<? super T> callback) {
+        checkNPE(objectMapper);
+        return new JacksonIncrementalDecoder<>(objectMapper, JacksonRegistry.reader(objectMapper, clazz), callback);
+    }
+
+    public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(TypeReference<T> typeRef, Consumer<? super T> callback) {
+        return incrementalDecoder(getObjectMapper(), typeRef, callback);
+    }
+
+    public static <T> JacksonIncrementalDecoder<T> incrementalDecoder(ObjectMapper objectMapper, TypeReference<T> typeRef, Consumer<? super T> callback) {
+        checkNPE(objectMapper);
+        return new JacksonIncrementalDecoder<>(objectMapper, JacksonRegistry.reader(objectMapper, typeRef), callback);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Lazily read newline-delimited JSON (NDJSON) values.
+     * <p>
+     * Values are bound straight from the byte stream by a single reused parser.
+     * The returned {@link Stream} should be closed, which also closes the {@code json} source.
+     *
+     * @param json  {@link InputStream} json lines
+     * @param clazz the value class type
+     * @param <T>   T class
+     * @return {@link Stream}
+     * @since 1.6.0
+     */
+    public static <T> Stream<T> readLines(InputStream json, Class<T> clazz) {
+        return readLines(getObjectMapper(), json, clazz);
+    }
+
+    public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+        checkNPE(objectMapper);
+        return readLines(JacksonRegistry.reader(objectMapper, clazz), json);
+    }
+
+    public static <T> Stream<T> readLines(InputStream json, TypeReference<T> typeRef) {
+        return readLines(getObjectMapper(), json, typeRef);
+    }
+
+    public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, TypeReference<T> typeRef) {
+        checkNPE(objectMapper);
+        return readLines(JacksonRegistry.reader(objectMapper, typeRef), json);
+    }
+
+    private static <T> Stream<T> readLines(ObjectReader reader, InputStream json) {
+        try {
+            // Bind from a caller-owned parser: root-level arrays are values, not a wrapper to unwrap.
+            JsonParser parser = reader.createParser(json);
+            MappingIterator<T> iterator = reader.readValues(parser);
+
+            return toStream(iterator).onClose(() -> {
+                try {
+                    parser.close();
+                } catch (Exception e) {
+                    throwUnchecked(e);
+                }
+            });
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Read newline-delimited JSON (NDJSON) values in parallel.
+     * <p>
+     * Lines are split into batches of {@link #DEFAULT_LINES_BATCH_SIZE} on the calling thread
+     * and decoded on the given {@code executor}, values are still emitted in input order.
+     *
+     * @param json     {@link InputStream} json lines
+     * @param clazz    the value class type
+     * @param executor the decoding executor, such as {@link ForkJoinPool#commonPool()}
+     * @param <T>      T class
+     * @return {@link Stream}
+     * @since 1.6.0
+     */
+    public static <T> Stream<T> readLines(InputStream json, Class<T> clazz, Executor executor) {
+        return readLines(getObjectMapper(), json, clazz, executor, DEFAULT_LINES_BATCH_SIZE);
+    }
+
+    public static <T> Stream<T> readLines(ObjectMapper objectMapper, InputStream json, Class<T> clazz, Executor executor, int batchSize) {
+        checkNPE(objectMapper);
+        int parallelism = parallelism(executor);
+        ObjectReader reader = JacksonRegistry.reader(objectMapper, clazz);
+
+        return toStream(new ParallelLinesIterator<T>(json, reader, executor, batchSize, parallelism << 1));
     }
 
+    // ----------------------------------------------------------------
+
     /**
-     * Parse {@code json} Array to {@link Collection}
+     * Write values as newline-delimited JSON (NDJSON).
+     * <p>
+     * A single generator is reused for all values, every value is terminated by {@code '\n'}.
+     * The {@code output} is flushed but not closed.
      *
-     * @param json  {@link InputStream} json
-     * @param clazz the target class type
-     * @param <T>   T class
-     * @return T
+     * @param output {@link OutputStream}
+     * @param values the values
+     * @param <T>    T class
      * @since 1.6.0
      */
-    public static <T> Collection<T> parseCollection(InputStream json, Class<T> clazz) {
-        return parseCollection(getObjectMapper(), json, clazz);
+    public static <T> void writeLines(OutputStream output, Iterable<T> values) {
+        writeLines(getObjectMapper(), output, values.iterator());
     }
 
-    public static <T> Collection<T> parseCollection(ObjectMapper objectMapper, InputStream json, Class<T> clazz) {
+    public static <T> void writeLines(ObjectMapper objectMapper, OutputStream output, Iterable<T> values) {
+        writeLines(objectMapper, output, values.iterator());
+    }
+
+    public static <T> void writeLines(OutputStream output, Stream<T> values) {
+        writeLines(getObjectMapper(), output, values.iterator());
+    }
+
+    public static <T> void writeLines(ObjectMapper objectMapper, OutputStream output, Stream<T> values) {
+        writeLines(objectMapper, output, values.iterator());
+    }
+
+    private static <T> void writeLines(ObjectMapper objectMapper, OutputStream output, Iterator<T> values) {
         checkNPE(objectMapper);
-        try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            CollectionType collectionType = typeFactory.constructCollectionType(Collection.class, clazz);
-            return objectMapper.readValue(json, collectionType);
+        // @formatter:off
+        ObjectWriter writer = JacksonRegistry.writer(objectMapper)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(LINE_SEPARATOR);
+        // @formatter:on
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            boolean written = false;
+            try (SequenceWriter sequenceWriter = writer.writeValues(generator)) {
+                while (values.hasNext()) {
+                    sequenceWriter.write(values.next());
+                    written = true;
+                }
+            }
+            if (written) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
         } catch (Exception e) {
-            return throwUnchecked(e);
+            throwUnchecked(e);
         }
     }
 
@@ -735,11 +1916,16 @@ public final class Jackson {
      * @return the string json body.
      */
     public static <T> String toJSONString(T object, Class<?> view) {
-        return toJSONString(object, (writer) -> {
-            return null != view
-                    ? writer.withView(view)
-                    : writer;
-        });
+        return toJSONString(getObjectMapper(), object, view);
+    }
+
+    public static <T> String toJSONString(ObjectMapper objectMapper, T object, Class<?> view) {
+        checkNPE(objectMapper);
+        try {
+            return JacksonRegistry.writer(objectMapper, view).writeValueAsString(object);
+        } catch (Exception e) {
+            return throwUnchecked(e, String.class);
+        }
     }
 
     public static <T> String toJSONString(T object, Function<ObjectWriter, ObjectWriter> fx) {
@@ -749,8 +1935,7 @@ public final class Jackson {
     public static <T> String toJSONString(ObjectMapper objectMapper, T object, Function<ObjectWriter, ObjectWriter> fx) {
         checkNPE(objectMapper);
         try {
-            ObjectWriter objectWriter = objectMapper.writer();
-            objectWriter = fx.apply(objectWriter);
+            ObjectWriter objectWriter = fx.apply(JacksonRegistry.writer(objectMapper));
             return objectWriter.writeValueAsString(object);
         } catch (Exception e) {
             return throwUnchecked(e, String.class);
@@ -759,6 +1944,15 @@ public final class Jackson {
 
     // ----------------------------------------------------------------
 
+    /**
+     * Re-indent {@code json} through a {@link JsonNode} tree, so numbers are written as the mapper reads them,
+     * e.g. {@code 1e3} as {@code 1000} with the default profile.
+     * <p>
+     * To copy the tokens verbatim without building a tree, use {@code transform(json, JacksonTransformRules.pretty())}.
+     *
+     * @param json the json string
+     * @return the pretty json string
+     */
     public static String toPrettyString(String json) {
         return toPrettyString(getObjectMapper(), json);
     }
@@ -767,9 +1961,8 @@ public final class Jackson {
         checkNPE(objectMapper);
         try {
             // @formatter:off
-            return objectMapper
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(objectMapper.readValue(json, JsonNode.class));
+            return JacksonRegistry.writer(objectMapper, null, SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(JacksonRegistry.reader(objectMapper, JsonNode.class).readValue(json));
             // @formatter:on
         } catch (Exception e) {
             return throwUnchecked(e, String.class);
@@ -778,6 +1971,75 @@ public final class Jackson {
 
     // ----------------------------------------------------------------
 
+    /**
+     * Copy the {@code json} tokens to {@code output} and apply the {@code rules} on the fly,
+     * without binding or building a tree, see {@link JacksonTransformRules}.
+     * <p>
+     * The {@code json} source is closed, the {@code output} is flushed and left open.
+     *
+     * @param json   {@link InputStream} json
+     * @param output the target
+     * @param rules  the include/exclude/rename and format rules
+     * @since 1.6.0
+     */
+    public static void transform(InputStream json, OutputStream output, JacksonTransformRules rules) {
+        transform(getObjectMapper(), json, output, rules);
+    }
+
+    public static void transform(ObjectMapper objectMapper, InputStream json, OutputStream output, JacksonTransformRules rules) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            transform(objectMapper, parser, objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8), rules);
+        } catch (Exception e) {
+            throwUnchecked(e);
+        }
+    }
+
+    public static String transform(String json, JacksonTransformRules rules) {
+        return transform(getObjectMapper(), json, rules);
+    }
+
+    public static String transform(ObjectMapper objectMapper, String json, JacksonTransformRules rules) {
+        checkNPE(objectMapper);
+        StringWriter output = new StringWriter(json.length());
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            transform(objectMapper, parser, objectMapper.getFactory().createGenerator(output), rules);
+        } catch (Exception e) {
+            return throwUnchecked(e, String.class);
+        }
+
+        return output.toString();
+    }
+
+    public static byte[] transform(byte[] json, JacksonTransformRules rules) {
+        return transform(getObjectMapper(), json, rules);
+    }
+
+    public static byte[] transform(ObjectMapper objectMapper, byte[] json, JacksonTransformRules rules) {
+        checkNPE(objectMapper);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            transform(objectMapper, parser, objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8), rules);
+        } catch (Exception e) {
+            return throwUnchecked(e, byte[].class);
+        }
+
+        return output.toByteArray();
+    }
+
+    private static void transform(ObjectMapper objectMapper, JsonParser parser, JsonGenerator generator, JacksonTransformRules rules)
+            throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (rules.isPretty()) {
+            generator.setPrettyPrinter(objectMapper.getSerializationConfig().constructDefaultPrettyPrinter());
+        }
+        try (JsonGenerator g = generator) {
+            JacksonTransformer.transform(parser, g, rules);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
     public static <T> byte[] toBytes(T object) {
         return toBytes(getObjectMapper(), object);
     }
@@ -785,12 +2047,345 @@ public final class Jackson {
     public static <T> byte[] toBytes(ObjectMapper objectMapper, T object) {
         checkNPE(objectMapper);
         try {
-            return objectMapper.writeValueAsBytes(object);
+            return JacksonRegistry.writer(objectMapper).writeValueAsBytes(object);
+        } catch (Exception e) {
+            return throwUnchecked(e, byte[].class);
+        }
+    }
+
+    /**
+     * Serialize a large {@link List} as a JSON array in parallel.
+     * <p>
+     * Ranges of elements are serialized on the {@code executor} into pooled buffers and stitched in order,
+     * the output is the same as {@link #toBytes(Object)}. Lists under {@link #DEFAULT_PARALLEL_WRITE_THRESHOLD} elements,
+     * a single-threaded executor, a non-JSON mapper (Smile, CBOR, ...), a mapper with default typing
+     * and a mapper with {@code INDENT_OUTPUT} or {@code WRAP_ROOT_VALUE} are written sequentially.
+     * The threshold is per call only: {@link #toBytes(Object)} never goes parallel.
+     * For an array, pass {@link Arrays#asList(Object[])}, which doesn't copy it.
+     *
+     * @param values   the values
+     * @param executor the serializing executor, such as {@link ForkJoinPool#commonPool()}
+     * @return the json bytes
+     * @since 1.6.0
+     */
+    public static byte[] toBytes(List<?> values, Executor executor) {
+        return toBytes(getObjectMapper(), values, executor, DEFAULT_PARALLEL_WRITE_THRESHOLD);
+    }
+
+    public static byte[] toBytes(ObjectMapper objectMapper, List<?> values, Executor executor, int threshold) {
+        checkNPE(objectMapper);
+        int parts = JacksonParallelWriter.parts(objectMapper, values, executor, threshold);
+        if (parts < 2) {
+            return toBytes(objectMapper, values);
+        }
+        try {
+            return JacksonParallelWriter.toBytes(JacksonRegistry.writer(objectMapper), values, parts, executor);
+        } catch (Exception e) {
+            return throwUnchecked(e, byte[].class);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Write an Object straight into the {@code output}, without materializing a {@code byte[]}.
+     * <p>
+     * The {@code output} is flushed but not closed.
+     *
+     * @param output the target {@link OutputStream}.
+     * @param object the target object.
+     * @param <T>    the target object type.
+     * @since 1.6.0
+     */
+    public static <T> void writeTo(OutputStream output, T object) {
+        writeTo(getObjectMapper(), output, object);
+    }
+
+    public static <T> void writeTo(ObjectMapper objectMapper, OutputStream output, T object) {
+        checkNPE(objectMapper);
+        try {
+            ObjectWriter writer = JacksonRegistry.writer(objectMapper);
+            writeTo(writer, writer.createGenerator(output, JsonEncoding.UTF8), object);
+        } catch (Exception e) {
+            throwUnchecked(e);
+        }
+    }
+
+    public static <T> void writeTo(Writer output, T object) {
+        writeTo(getObjectMapper(), output, object);
+    }
+
+    public static <T> void writeTo(ObjectMapper objectMapper, Writer output, T object) {
+        checkNPE(objectMapper);
+        try {
+            ObjectWriter writer = JacksonRegistry.writer(objectMapper);
+            writeTo(writer, writer.createGenerator(output), object);
+        } catch (Exception e) {
+            throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Write an Object into the {@code output} buffer, starting at and advancing its position.
+     * <p>
+     * If the write fails, e.g. with a {@link java.nio.BufferOverflowException}, the position is restored,
+     * but the bytes past it may already have been overwritten by the partial output.
+     * <p>
+     * The generator's own buffers still come from Jackson's thread-local {@code BufferRecycler},
+     * so on short-lived (e.g. virtual) threads they are allocated per call.
+     *
+     * @param output the target {@link ByteBuffer}, heap or direct.
+     * @param object the target object.
+     * @param <T>    the target object type.
+     * @throws java.nio.BufferOverflowException if the buffer has not enough room.
+     * @since 1.6.0
+     */
+    public static <T> void writeTo(ByteBuffer output, T object) {
+        writeTo(getObjectMapper(), output, object);
+    }
+
+    public static <T> void writeTo(ObjectMapper objectMapper, ByteBuffer output, T object) {
+        int start = output.position();
+        boolean written = false;
+        try {
+            writeTo(objectMapper, new ByteBufferOutputStream(output), object);
+            written = true;
+        } finally {
+            if (!written) {
+                ((Buffer) output).position(start);
+            }
+        }
+    }
+
+    /**
+     * Write an Object into the {@code output} channel through a pooled staging buffer.
+     * <p>
+     * Only the staging buffer is pooled across threads, see {@link ByteBufferPool};
+     * the generator's own buffers still come from Jackson's thread-local {@code BufferRecycler}.
+     * <p>
+     * The {@code output} channel is not closed.
+     *
+     * @param output the target {@link WritableByteChannel}.
+     * @param object the target object.
+     * @param <T>    the target object type.
+     * @since 1.6.0
+     */
+    public static <T> void writeTo(WritableByteChannel output, T object) {
+        writeTo(getObjectMapper(), output, object);
+    }
+
+    public static <T> void writeTo(ObjectMapper objectMapper, WritableByteChannel output, T object) {
+        checkNPE(objectMapper);
+        try (ChannelOutputStream channel = new ChannelOutputStream(output, bufferPool)) {
+            writeTo(objectMapper, channel, object);
+        } catch (Exception e) {
+            throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Serialize a large {@link List} as a JSON array in parallel straight into the {@code output},
+     * ranges are written out in order as soon as they are ready, see {@link #toBytes(List, Executor)}.
+     * <p>
+     * The {@code output} is flushed but not closed.
+     *
+     * @param output   the target {@link OutputStream}.
+     * @param values   the values
+     * @param executor the serializing executor
+     * @since 1.6.0
+     */
+    public static void writeTo(OutputStream output, List<?> values, Executor executor) {
+        writeTo(getObjectMapper(), output, values, executor, DEFAULT_PARALLEL_WRITE_THRESHOLD);
+    }
+
+    public static void writeTo(ObjectMapper objectMapper, OutputStream output, List<?> values, Executor executor, int threshold) {
+        checkNPE(objectMapper);
+        int parts = JacksonParallelWriter.parts(objectMapper, values, executor, threshold);
+        if (parts < 2) {
+            writeTo(objectMapper, output, values);
+            return;
+        }
+        try {
+            JacksonParallelWriter.writeTo(JacksonRegistry.writer(objectMapper), output, values, parts, executor);
+        } catch (Exception e) {
+            throwUnchecked(e);
+        }
+    }
+
+    private static <T> void writeTo(ObjectWriter writer, JsonGenerator generator, T object) throws IOException {
+        // Closing the generator hands its buffers back to the recycler, but must leave the caller's target open.
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (JsonGenerator g = generator) {
+            writer.writeValue(g, object);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Hash the serialized form of an Object, e.g. for cache keys and ETags.
+     * <p>
+     * The bytes are streamed into the {@link MessageDigest} as they are generated, so no {@code byte[]} or {@link String}
+     * of the document is materialized, the memory used is that of the generator buffers whatever the size of the value.
+     *
+     * @param object    the target object.
+     * @param algorithm the {@link MessageDigest} algorithm, such as {@code SHA-256} or {@code MD5}.
+     * @param <T>       the target object type.
+     * @return the digest bytes
+     * @since 1.6.0
+     */
+    public static <T> byte[] hash(T object, String algorithm) {
+        return hash(getObjectMapper(), object, algorithm, false);
+    }
+
+    /**
+     * Hash the serialized form of an Object, see {@link #hash(Object, String)}.
+     * <p>
+     * With {@code canonical}, the canonical form (see {@link #toCanonicalBytes(Object)}) is hashed,
+     * so values equal by content hash equally regardless of property order, map insertion order and number representation.
+     *
+     * @param object    the target object.
+     * @param algorithm the {@link MessageDigest} algorithm.
+     * @param canonical hash the canonical form or not.
+     * @param <T>       the target object type.
+     * @return the digest bytes
+     */
+    public static <T> byte[] hash(T object, String algorithm, boolean canonical) {
+        return hash(getObjectMapper(), object, algorithm, canonical);
+    }
+
+    public static <T> byte[] hash(ObjectMapper objectMapper, T object, String algorithm, boolean canonical) {
+        checkNPE(objectMapper);
+        Objects.requireNonNull(algorithm, "infras: the digest algorithm can't be null.");
+        try {
+            HashingOutputStream output = new HashingOutputStream(MessageDigest.getInstance(algorithm));
+            ObjectWriter writer = JacksonRegistry.writer(canonical ? JacksonCanonical.canonical(objectMapper) : objectMapper);
+            writeTo(writer, writer.createGenerator(output, JsonEncoding.UTF8), object);
+
+            return output.digest();
         } catch (Exception e) {
             return throwUnchecked(e, byte[].class);
         }
     }
 
+    /**
+     * Serialize an Object in canonical form: bean properties and map entries sorted by name, no indentation,
+     * and floating point numbers normalized by value ({@code 1.0}, {@code 1.00} and {@code 1} are all written as {@code 1}).
+     * <p>
+     * Properties listed by {@code @JsonPropertyOrder} keep that order, and {@link JsonNode} trees are written as they are.
+     *
+     * @param object the target object.
+     * @param <T>    the target object type.
+     * @return the canonical json bytes
+     * @since 1.6.0
+     */
+    public static <T> byte[] toCanonicalBytes(T object) {
+        return toCanonicalBytes(getObjectMapper(), object);
+    }
+
+    public static <T> byte[] toCanonicalBytes(ObjectMapper objectMapper, T object) {
+        checkNPE(objectMapper);
+
+        return toBytes(JacksonCanonical.canonical(objectMapper), object);
+    }
+
+    /**
+     * The length in bytes of {@link #toBytes(Object)}, computed by serializing into a counter, without materializing the bytes.
+     * <p>
+     * E.g. for a {@code Content-Length} header or to pick between a buffered and a streamed response.
+     *
+     * @param object the target object.
+     * @param <T>    the target object type.
+     * @return the serialized length
+     * @since 1.6.0
+     */
+    public static <T> long serializedLength(T object) {
+        return serializedLength(getObjectMapper(), object);
+    }
+
+    public static <T> long serializedLength(ObjectMapper objectMapper, T object) {
+        checkNPE(objectMapper);
+        try {
+            CountingOutputStream output = new CountingOutputStream();
+            ObjectWriter writer = JacksonRegistry.writer(objectMapper);
+            writeTo(writer, writer.createGenerator(output, JsonEncoding.UTF8), object);
+
+            return output.count();
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Extract the value at a JSON Pointer, such as {@code /tenant/id}, without building a {@link JsonNode} tree.
+     * <p>
+     * Subtrees off the path are skipped and parsing stops once the value is bound.
+     *
+     * @param json    the json bytes
+     * @param pointer the JSON Pointer (RFC 6901)
+     * @param clazz   the value class type
+     * @param <T>     T class
+     * @return the value, or {@code null} if the path is missing
+     * @since 1.6.0
+     */
+    public static <T> T extract(byte[] json, String pointer, Class<T> clazz) {
+        return extract(getObjectMapper(), json, pointer, clazz);
+    }
+
+    public static <T> T extract(ObjectMapper objectMapper, byte[] json, String pointer, Class<T> clazz) {
+        return cast(clazz, extract(objectMapper, json, Collections.singletonMap(pointer, clazz)).get(pointer));
+    }
+
+    public static <T> T extract(InputStream json, String pointer, Class<T> clazz) {
+        return extract(getObjectMapper(), json, pointer, clazz);
+    }
+
+    public static <T> T extract(ObjectMapper objectMapper, InputStream json, String pointer, Class<T> clazz) {
+        return cast(clazz, extract(objectMapper, json, Collections.singletonMap(pointer, clazz)).get(pointer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Class<T> clazz, Object value) {
+        // A primitive target, such as int.class, is bound to its wrapper.
+        return (T) (clazz.isPrimitive() ? ClassUtil.wrapperType(clazz) : clazz).cast(value);
+    }
+
+    /**
+     * Extract the values at several JSON Pointers in a single pass, see {@link #extract(byte[], String, Class)}.
+     *
+     * @param json     the json bytes
+     * @param pointers the JSON Pointer to value class type
+     * @return the values keyed by pointer, missing paths are absent
+     * @since 1.6.0
+     */
+    public static Map<String, Object> extract(byte[] json, Map<String, ? extends Class<?>> pointers) {
+        return extract(getObjectMapper(), json, pointers);
+    }
+
+    public static Map<String, Object> extract(ObjectMapper objectMapper, byte[] json, Map<String, ? extends Class<?>> pointers) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return new JacksonPointerExtractor(objectMapper, pointers).extract(parser);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
+    public static Map<String, Object> extract(InputStream json, Map<String, ? extends Class<?>> pointers) {
+        return extract(getObjectMapper(), json, pointers);
+    }
+
+    public static Map<String, Object> extract(ObjectMapper objectMapper, InputStream json, Map<String, ? extends Class<?>> pointers) {
+        checkNPE(objectMapper);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return new JacksonPointerExtractor(objectMapper, pointers).extract(parser);
+        } catch (Exception e) {
+            return throwUnchecked(e);
+        }
+    }
+
     // ----------------------------------------------------------------
 
     public static JsonNode toJsonNode(String json) {
@@ -823,9 +2418,17 @@ public final class Jackson {
         return toObject(getObjectMapper(), map, targetClass);
     }
 
+    /**
+     * Convert a {@code Map} into a bean, plain beans are populated directly, see {@link JacksonBeanConverter}.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param map          the source map
+     * @param targetClass  the bean class
+     * @param <T>          the bean type
+     * @return the bean
+     */
     public static <T> T toObject(ObjectMapper objectMapper, Map<String, Object> map, Class<T> targetClass) {
-        checkNPE(objectMapper);
-        return objectMapper.convertValue(map, targetClass);
+        return JacksonBeanConverter.toObject(objectMapper, map, targetClass);
     }
 
     // ----------------------------------------------------------------
@@ -834,9 +2437,47 @@ public final class Jackson {
         return toMap(getObjectMapper(), object);
     }
 
+    /**
+     * Convert a bean into a {@code Map}, plain beans are read directly, see {@link JacksonBeanConverter}.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param object       the bean
+     * @param <T>          the bean type
+     * @return the map
+     */
     public static <T> Map<String, Object> toMap(ObjectMapper objectMapper, T object) {
-        checkNPE(objectMapper);
-        return objectMapper.convertValue(object, new TypeReference<Map<String, Object>>() {});
+        return JacksonBeanConverter.toMap(objectMapper, object);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> T convert(Object source, Class<T> targetClass) {
+        return convert(getObjectMapper(), source, targetClass);
+    }
+
+    /**
+     * Convert a bean into another bean type, e.g. a DTO into an entity, without an intermediate {@code Map}.
+     * <p>
+     * The result is that of {@link ObjectMapper#convertValue(Object, Class)},
+     * plain beans are copied through a cached property-copy plan, see {@link JacksonBeanConverter}.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param source       the source bean
+     * @param targetClass  the target class
+     * @param <T>          the target type
+     * @return the target bean
+     * @since 1.6.0
+     */
+    public static <T> T convert(ObjectMapper objectMapper, Object source, Class<T> targetClass) {
+        return JacksonBeanConverter.convert(objectMapper, source, targetClass);
+    }
+
+    public static <T> List<T> convertAll(Collection<?> sources, Class<T> targetClass) {
+        return convertAll(getObjectMapper(), sources, targetClass);
+    }
+
+    public static <T> List<T> convertAll(ObjectMapper objectMapper, Collection<?> sources, Class<T> targetClass) {
+        return JacksonBeanConverter.convertAll(objectMapper, sources, targetClass);
     }
 
     // ----------------------------------------------------------------
@@ -0,0 +1,544 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code JacksonBeanConverter}
+ * <p>
+ * A direct bean to {@code Map} (and back) converter, the fast path of {@link Jackson#toMap(ObjectMapper, Object)}
+ * and {@link Jackson#toObject(ObjectMapper, Map, Class)}.
+ * <p>
+ * {@link ObjectMapper#convertValue(Object, Class)} serializes into a token buffer and deserializes it again;
+ * this converter reads and writes the properties through cached accessor plans instead,
+ * producing the same result for plain beans. Types whose mapping the plans can't reproduce exactly
+ * (custom serializers, formats, type ids, creators, ...) and any unexpected input fall back to {@code convertValue}.
+ * <p>
+ * {@link #convert(ObjectMapper, Object, Class)} combines the plans of a (source class, target class) pair
+ * into a property-copy plan, so beans are converted without the intermediate {@code Map}.
+ * <p>
+ * Plans snapshot the mapper configuration, see {@link #clean()}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonBeanConverter {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    /**
+     * The max mappers with cached plans, per-call mappers (e.g. copies) would otherwise be kept alive forever.
+     */
+    static final int MAX_MAPPERS = 1 << 4;
+
+    private static final ConcurrentHashMap<ObjectMapper, ConcurrentHashMap<Class<?>, JacksonBeanPlan>> writePlans = new ConcurrentHashMap<>(4);
+    private static final ConcurrentHashMap<ObjectMapper, ConcurrentHashMap<Class<?>, JacksonBeanPlan>> readPlans = new ConcurrentHashMap<>(4);
+    private static final ConcurrentHashMap<ObjectMapper, ConcurrentHashMap<JacksonCopyPlan.Key, JacksonCopyPlan>> copyPlans = new ConcurrentHashMap<>(4);
+
+    private JacksonBeanConverter() {
+        AssertionErrorThrower.throwz(JacksonBeanConverter.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> Map<String, Object> toMap(ObjectMapper objectMapper, T object) {
+        Jackson.checkNPE(objectMapper);
+        if (null == object) {
+            return null;
+        }
+
+        JacksonBeanPlan plan = writePlan(objectMapper, object.getClass());
+        if (plan.supported()) {
+            Map<String, Object> map = write(objectMapper, plan, object);
+            if (null != map) {
+                return map;
+            }
+        }
+
+        return objectMapper.convertValue(object, MAP_TYPE);
+    }
+
+    public static <T> T toObject(ObjectMapper objectMapper, Map<String, Object> map, Class<T> targetClass) {
+        Jackson.checkNPE(objectMapper);
+        if (null == map) {
+            return null;
+        }
+
+        JacksonBeanPlan plan = readPlan(objectMapper, targetClass);
+        if (plan.supported()) {
+            Object bean = read(objectMapper, plan, map);
+            if (null != bean) {
+                return targetClass.cast(bean);
+            }
+        }
+
+        return objectMapper.convertValue(map, targetClass);
+    }
+
+    /**
+     * Convert a bean into another bean type, with the result of {@link ObjectMapper#convertValue(Object, Class)}.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param source       the source bean
+     * @param targetClass  the target class
+     * @param <T>          the target type
+     * @return the target bean
+     */
+    public static <T> T convert(ObjectMapper objectMapper, Object source, Class<T> targetClass) {
+        Jackson.checkNPE(objectMapper);
+        if (null == source) {
+            return null;
+        }
+
+        return targetClass.cast(convert(objectMapper, copyPlan(objectMapper, source.getClass(), targetClass), source, targetClass));
+    }
+
+    /**
+     * Convert each bean of {@code sources}, the copy plan is resolved once per run of equally typed sources.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param sources      the source beans
+     * @param targetClass  the target class
+     * @param <T>          the target type
+     * @return the target beans, in source order
+     */
+    public static <T> List<T> convertAll(ObjectMapper objectMapper, Collection<?> sources, Class<T> targetClass) {
+        Jackson.checkNPE(objectMapper);
+        if (null == sources) {
+            return null;
+        }
+
+        List<T> targets = new ArrayList<>(sources.size());
+        Class<?> sourceClass = null;
+        JacksonCopyPlan plan = null;
+        for (Object source : sources) {
+            if (null == source) {
+                targets.add(null);
+                continue;
+            }
+            if (source.getClass() != sourceClass) {
+                sourceClass = source.getClass();
+                plan = copyPlan(objectMapper, sourceClass, targetClass);
+            }
+            targets.add(targetClass.cast(convert(objectMapper, plan, source, targetClass)));
+        }
+
+        return targets;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The number of cached plans, supported or not.
+     *
+     * @return the plan count
+     */
+    public static int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Class<?>, JacksonBeanPlan> plans : writePlans.values()) {
+            size += plans.size();
+        }
+        for (ConcurrentHashMap<Class<?>, JacksonBeanPlan> plans : readPlans.values()) {
+            size += plans.size();
+        }
+        for (ConcurrentHashMap<JacksonCopyPlan.Key, JacksonCopyPlan> plans : copyPlans.values()) {
+            size += plans.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Drop the cached plans, must be called whenever a mapper is replaced or reconfigured;
+     * {@link Jackson#injectSharedObjectMapper(ObjectMapper)} and {@link Jackson#clean()} already do so.
+     */
+    public static void clean() {
+        writePlans.clear();
+        readPlans.clear();
+        copyPlans.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    static boolean supportsWrite(ObjectMapper objectMapper, Class<?> type) {
+        return writePlan(objectMapper, type).supported();
+    }
+
+    static boolean supportsRead(ObjectMapper objectMapper, Class<?> type) {
+        return readPlan(objectMapper, type).supported();
+    }
+
+    static boolean supportsCopy(ObjectMapper objectMapper, Class<?> source, Class<?> target) {
+        return copyPlan(objectMapper, source, target).supported();
+    }
+
+    private static JacksonCopyPlan copyPlan(ObjectMapper objectMapper, Class<?> source, Class<?> target) {
+        ConcurrentHashMap<JacksonCopyPlan.Key, JacksonCopyPlan> plans = plans(copyPlans, objectMapper);
+        JacksonCopyPlan.Key key = new JacksonCopyPlan.Key(source, target);
+        JacksonCopyPlan plan = plans.get(key);
+        if (null != plan) {
+            return plan;
+        }
+
+        // Resolved outside of computeIfAbsent(), the bean plans live in other maps.
+        JacksonCopyPlan created = JacksonCopyPlan.of(writePlan(objectMapper, source), readPlan(objectMapper, target));
+        evict(plans, JacksonRegistry.maxSize());
+        JacksonCopyPlan existing = plans.putIfAbsent(key, created);
+
+        return null != existing ? existing : created;
+    }
+
+    private static JacksonBeanPlan writePlan(ObjectMapper objectMapper, Class<?> type) {
+        ConcurrentHashMap<Class<?>, JacksonBeanPlan> plans = plans(writePlans, objectMapper);
+        JacksonBeanPlan plan = plans.get(type);
+        if (null != plan) {
+            return plan;
+        }
+        evict(plans, JacksonRegistry.maxSize());
+
+        return plans.computeIfAbsent(type, (x) -> JacksonBeanPlan.forWrite(objectMapper, type));
+    }
+
+    private static JacksonBeanPlan readPlan(ObjectMapper objectMapper, Class<?> type) {
+        ConcurrentHashMap<Class<?>, JacksonBeanPlan> plans = plans(readPlans, objectMapper);
+        JacksonBeanPlan plan = plans.get(type);
+        if (null != plan) {
+            return plan;
+        }
+        evict(plans, JacksonRegistry.maxSize());
+
+        return plans.computeIfAbsent(type, (x) -> JacksonBeanPlan.forRead(objectMapper, type));
+    }
+
+    private static <K, V> ConcurrentHashMap<K, V> plans(ConcurrentHashMap<ObjectMapper, ConcurrentHashMap<K, V>> cache, ObjectMapper objectMapper) {
+        ConcurrentHashMap<K, V> plans = cache.get(objectMapper);
+        if (null != plans) {
+            return plans;
+        }
+        evict(cache, MAX_MAPPERS);
+
+        return cache.computeIfAbsent(objectMapper, (x) -> new ConcurrentHashMap<>(16));
+    }
+
+    /**
+     * Cheap bounding, like {@link JacksonRegistry}: drop an arbitrary entry instead of maintaining an access order.
+     */
+    private static void evict(ConcurrentHashMap<?, ?> cache, int maxSize) {
+        if (cache.size() >= maxSize) {
+            Iterator<?> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    static int mappers() {
+        return writePlans.size() + readPlans.size() + copyPlans.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the map, or {@code null} to fall back to the mapper
+     */
+    private static Map<String, Object> write(ObjectMapper objectMapper, JacksonBeanPlan plan, Object bean) {
+        JacksonBeanPlan.WriteProperty[] properties = plan.writeProperties;
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (properties.length / 0.75F) + 1));
+        try {
+            for (JacksonBeanPlan.WriteProperty property : properties) {
+                Object value = property.getter.get(bean);
+                if (null == value) {
+                    if (!property.suppressNulls) {
+                        map.put(property.name, null);
+                    }
+                    continue;
+                }
+
+                map.put(property.name, writeValue(objectMapper, plan, property.kind, value));
+            }
+        } catch (Exception e) {
+            // Let the mapper report (or handle) it.
+            return null;
+        }
+
+        return map;
+    }
+
+    private static Object writeValue(ObjectMapper objectMapper, JacksonBeanPlan plan, int kind, Object value) {
+        switch (kind) {
+            case JacksonBeanPlan.IDENTITY:
+                return value;
+            case JacksonBeanPlan.CHAR:
+                return String.valueOf(value);
+            case JacksonBeanPlan.FLOAT:
+                double number = ((Number) value).doubleValue();
+                if (!Double.isNaN(number) && !Double.isInfinite(number)) {
+                    return BigDecimal.valueOf(number);
+                }
+                break;
+            default:
+                if (value instanceof String || value instanceof Boolean
+                        || (plan.plainInts && (value instanceof Integer || value instanceof Long))) {
+                    return value;
+                }
+                if (value instanceof List && value.getClass().getName().startsWith("java.util.")) {
+                    return writeList(objectMapper, plan, (List<?>) value);
+                }
+                JacksonBeanPlan nested = writePlan(objectMapper, value.getClass());
+                if (nested.supported()) {
+                    Map<String, Object> map = write(objectMapper, nested, value);
+                    if (null != map) {
+                        return map;
+                    }
+                }
+        }
+
+        return objectMapper.convertValue(value, Object.class);
+    }
+
+    private static List<Object> writeList(ObjectMapper objectMapper, JacksonBeanPlan plan, List<?> values) {
+        List<Object> list = new ArrayList<>(values.size());
+        for (Object value : values) {
+            list.add(null != value ? writeValue(objectMapper, plan, JacksonBeanPlan.GENERIC, value) : null);
+        }
+
+        return list;
+    }
+
+    /**
+     * @return the bean, or {@code null} to fall back to the mapper
+     */
+    private static Object read(ObjectMapper objectMapper, JacksonBeanPlan plan, Map<?, ?> map) {
+        try {
+            Object bean = plan.constructor.get();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                JacksonBeanPlan.ReadProperty property = key instanceof String ? plan.readProperties.get(key) : null;
+                if (null == property) {
+                    if (key instanceof String && plan.skippable((String) key)) {
+                        continue;
+                    }
+                    // Unknown or aliased: let the mapper decide.
+                    return null;
+                }
+
+                Object value = entry.getValue();
+                if (null == value) {
+                    if (property.nullFallback) {
+                        return null;
+                    }
+                    property.setter.set(bean, property.nullValue);
+                    continue;
+                }
+
+                property.setter.set(bean, readValue(objectMapper, plan, property, value));
+            }
+
+            return bean;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Object convert(ObjectMapper objectMapper, JacksonCopyPlan plan, Object source, Class<?> targetClass) {
+        if (plan.supported()) {
+            Object target = copy(objectMapper, plan, source);
+            if (null != target) {
+                return target;
+            }
+        }
+
+        return objectMapper.convertValue(source, targetClass);
+    }
+
+    /**
+     * @return the target bean, or {@code null} to fall back to the mapper
+     */
+    private static Object copy(ObjectMapper objectMapper, JacksonCopyPlan plan, Object source) {
+        try {
+            Object target = plan.target.constructor.get();
+            for (JacksonCopyPlan.Step step : plan.steps) {
+                JacksonBeanPlan.ReadProperty property = step.target;
+                Object value = step.source.getter.get(source);
+                if (null == value) {
+                    if (step.source.suppressNulls) {
+                        continue;
+                    }
+                    if (property.nullFallback) {
+                        return null;
+                    }
+                    property.setter.set(target, property.nullValue);
+                    continue;
+                }
+
+                property.setter.set(target, JacksonCopyPlan.DIRECT == step.mode ? value : copyValue(objectMapper, plan, step, value));
+            }
+
+            return target;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Object copyValue(ObjectMapper objectMapper, JacksonCopyPlan plan, JacksonCopyPlan.Step step, Object value) {
+        JacksonBeanPlan.ReadProperty property = step.target;
+        if (JacksonBeanPlan.BEAN == property.kind) {
+            JacksonCopyPlan nested = copyPlan(objectMapper, value.getClass(), property.type.getRawClass());
+            Object target = nested.supported() ? copy(objectMapper, nested, value) : null;
+            if (null != target) {
+                return target;
+            }
+        } else if (JacksonBeanPlan.BEAN_LIST == property.kind && value instanceof List) {
+            List<Object> list = copyList(objectMapper, property.type.getContentType().getRawClass(), (List<?>) value);
+            if (null != list) {
+                return list;
+            }
+        }
+
+        return readValue(objectMapper, plan.target, property, writeValue(objectMapper, plan.source, step.source.kind, value));
+    }
+
+    /**
+     * @return the list, or {@code null} to go through the map values
+     */
+    private static List<Object> copyList(ObjectMapper objectMapper, Class<?> elementClass, List<?> values) {
+        List<Object> list = new ArrayList<>(values.size());
+        Class<?> sourceClass = null;
+        JacksonCopyPlan nested = JacksonCopyPlan.UNSUPPORTED;
+        for (Object value : values) {
+            if (null == value) {
+                return null;
+            }
+            if (value.getClass() != sourceClass) {
+                sourceClass = value.getClass();
+                nested = copyPlan(objectMapper, sourceClass, elementClass);
+            }
+            Object target = nested.supported() ? copy(objectMapper, nested, value) : null;
+            if (null == target) {
+                return null;
+            }
+            list.add(target);
+        }
+
+        return list;
+    }
+
+    private static Object readValue(ObjectMapper objectMapper, JacksonBeanPlan plan, JacksonBeanPlan.ReadProperty property, Object value) {
+        switch (property.kind) {
+            case JacksonBeanPlan.STRING:
+                if (value instanceof String) {
+                    return value;
+                }
+                break;
+            case JacksonBeanPlan.INT:
+                if (value instanceof Integer) {
+                    return value;
+                }
+                if (value instanceof Long || value instanceof Short || value instanceof Byte) {
+                    long number = ((Number) value).longValue();
+                    if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                        return (int) number;
+                    }
+                }
+                break;
+            case JacksonBeanPlan.LONG:
+                if (value instanceof Long) {
+                    return value;
+                }
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    return ((Number) value).longValue();
+                }
+                break;
+            case JacksonBeanPlan.BOOLEAN:
+                if (value instanceof Boolean) {
+                    return value;
+                }
+                break;
+            case JacksonBeanPlan.DOUBLE:
+                if (value instanceof Double) {
+                    return value;
+                }
+                if (value instanceof BigDecimal || value instanceof Integer || value instanceof Long) {
+                    return ((Number) value).doubleValue();
+                }
+                break;
+            case JacksonBeanPlan.DECIMAL:
+                if (value instanceof BigDecimal) {
+                    return value;
+                }
+                break;
+            case JacksonBeanPlan.BEAN:
+                if (value instanceof Map) {
+                    JacksonBeanPlan nested = readPlan(objectMapper, property.type.getRawClass());
+                    if (nested.supported()) {
+                        Object bean = read(objectMapper, nested, (Map<?, ?>) value);
+                        if (null != bean) {
+                            return bean;
+                        }
+                    }
+                }
+                break;
+            case JacksonBeanPlan.BEAN_LIST:
+                if (value instanceof List) {
+                    List<Object> list = readList(objectMapper, property.type.getContentType().getRawClass(), (List<?>) value);
+                    if (null != list) {
+                        return list;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+
+        return objectMapper.convertValue(value, property.type);
+    }
+
+    /**
+     * @return the list, or {@code null} to fall back to the mapper
+     */
+    private static List<Object> readList(ObjectMapper objectMapper, Class<?> elementClass, List<?> values) {
+        JacksonBeanPlan nested = readPlan(objectMapper, elementClass);
+        if (!nested.supported()) {
+            return null;
+        }
+
+        List<Object> list = new ArrayList<>(values.size());
+        for (Object value : values) {
+            // Null elements and non-map elements are subject to the mapper's coercion rules.
+            Object bean = value instanceof Map ? read(objectMapper, nested, (Map<?, ?>) value) : null;
+            if (null == bean) {
+                return null;
+            }
+            list.add(bean);
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,561 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.annotation.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.NullValueProvider;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@code JacksonBeanPlan}
+ * <p>
+ * The per-class accessor plans of {@link JacksonBeanConverter}.
+ * <p>
+ * A plan is derived from the {@link BeanSerializer}/{@link BeanDeserializer} the mapper itself builds,
+ * so property names, order, naming strategy, ignorals and null inclusion are the mapper's own.
+ * Only plain beans get a plan: anything with custom (de)serializers, formats, type ids, object ids, views,
+ * any-getters/setters, creators or unusual inclusion rules is {@link #UNSUPPORTED} and converted by the mapper.
+ * <p>
+ * Public methods of classes visible to this library are accessed through {@link LambdaMetafactory} functions,
+ * the other members through {@link MethodHandle}s.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonBeanPlan {
+
+    static final JacksonBeanPlan UNSUPPORTED = new JacksonBeanPlan(null, null, null, Collections.emptySet(), false, false, false);
+
+    // ---------------------------------------------------------------- value kinds
+
+    static final int GENERIC = 0;
+    static final int IDENTITY = 1;
+    static final int FLOAT = 2;
+    static final int CHAR = 3;
+    static final int STRING = 4;
+    static final int INT = 5;
+    static final int LONG = 6;
+    static final int BOOLEAN = 7;
+    static final int DOUBLE = 8;
+    static final int DECIMAL = 9;
+    static final int BEAN = 10;
+    static final int BEAN_LIST = 11;
+
+    /**
+     * Member annotations that change how a single property is (de)serialized.
+     */
+    private static final List<Class<? extends Annotation>> PROPERTY_CUSTOMIZERS = Arrays.asList(
+            JsonFormat.class, JsonSerialize.class, JsonDeserialize.class, JsonRawValue.class, JsonUnwrapped.class,
+            JsonSetter.class, JsonMerge.class, JsonManagedReference.class, JsonBackReference.class,
+            JsonIdentityInfo.class, JsonIdentityReference.class, JsonTypeInfo.class, JsonAnyGetter.class, JsonAnySetter.class
+    );
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    final WriteProperty[] writeProperties;
+    final Supplier<Object> constructor;
+    final Map<String, ReadProperty> readProperties;
+    /**
+     * The explicitly ignored property names of the target.
+     */
+    final Set<String> ignored;
+    /**
+     * Other unknown properties are ignored too, see {@link DeserializationFeature#FAIL_ON_UNKNOWN_PROPERTIES}.
+     */
+    final boolean ignoreUnknown;
+    /**
+     * The mapper reads floats into {@link BigDecimal}, see {@link DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS}.
+     */
+    final boolean decimalFloats;
+    /**
+     * The mapper reads integral numbers as-is, see {@link DeserializationFeature#USE_BIG_INTEGER_FOR_INTS}.
+     */
+    final boolean plainInts;
+
+    private JacksonBeanPlan(WriteProperty[] writeProperties, Supplier<Object> constructor, Map<String, ReadProperty> readProperties,
+                            Set<String> ignored, boolean ignoreUnknown, boolean decimalFloats, boolean plainInts) {
+        this.writeProperties = writeProperties;
+        this.constructor = constructor;
+        this.readProperties = readProperties;
+        this.ignored = ignored;
+        this.ignoreUnknown = ignoreUnknown;
+        this.decimalFloats = decimalFloats;
+        this.plainInts = plainInts;
+    }
+
+    boolean supported() {
+        return this != UNSUPPORTED;
+    }
+
+    /**
+     * Whether the mapper silently drops a property of this name which the plan doesn't know.
+     */
+    boolean skippable(String name) {
+        return this.ignoreUnknown || this.ignored.contains(name);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Build the bean to {@code Map} plan.
+     */
+    static JacksonBeanPlan forWrite(ObjectMapper objectMapper, Class<?> beanClass) {
+        try {
+            SerializationConfig config = objectMapper.getSerializationConfig();
+            DeserializationConfig readConfig = objectMapper.getDeserializationConfig();
+            if (null != config.getActiveView() || null != readConfig.getActiveView()) {
+                return UNSUPPORTED;
+            }
+
+            JavaType type = config.constructType(beanClass);
+            SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+            JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+            if (BeanSerializer.class != serializer.getClass() || null != provider.findTypeSerializer(type)) {
+                return UNSUPPORTED;
+            }
+
+            BeanDescription description = config.introspect(type);
+            if (null != description.findAnyGetter()
+                    || null != description.getObjectIdInfo()
+                    || null != config.getAnnotationIntrospector().findFilterId(description.getClassInfo())) {
+                return UNSUPPORTED;
+            }
+
+            boolean decimalFloats = readConfig.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+            boolean plainInts = !readConfig.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                    && !readConfig.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS);
+
+            List<WriteProperty> properties = new ArrayList<>();
+            for (Iterator<PropertyWriter> it = ((BeanSerializer) serializer).properties(); it.hasNext(); ) {
+                PropertyWriter writer = it.next();
+                if (BeanPropertyWriter.class != writer.getClass()) {
+                    return UNSUPPORTED;
+                }
+                BeanPropertyWriter property = (BeanPropertyWriter) writer;
+                if (null != property.getTypeSerializer()
+                        || (property.hasSerializer() && !builtin(property.getSerializer()))
+                        || customized(property.getMember())
+                        || !plainInclusion(property.findPropertyInclusion(config, beanClass))) {
+                    return UNSUPPORTED;
+                }
+
+                Class<?> raw = property.getType().getRawClass();
+                properties.add(new WriteProperty(property.getName(), raw, getter(property.getMember()),
+                        property.willSuppressNulls(), writeKind(raw, decimalFloats, plainInts)));
+            }
+
+            return new JacksonBeanPlan(properties.toArray(new WriteProperty[0]), null, null, Collections.emptySet(), false, decimalFloats, plainInts);
+        } catch (Throwable e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Build the {@code Map} to bean plan.
+     */
+    static JacksonBeanPlan forRead(ObjectMapper objectMapper, Class<?> beanClass) {
+        try {
+            DeserializationConfig config = objectMapper.getDeserializationConfig();
+            if (null != config.getActiveView()) {
+                return UNSUPPORTED;
+            }
+
+            JavaType type = config.constructType(beanClass);
+            DefaultDeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                    .createDummyInstance(config);
+            JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(type);
+            if (BeanDeserializer.class != deserializer.getClass()
+                    || null != context.getFactory().findTypeDeserializer(config, type)) {
+                return UNSUPPORTED;
+            }
+
+            BeanDeserializer bean = (BeanDeserializer) deserializer;
+            ValueInstantiator instantiator = bean.getValueInstantiator();
+            if (!instantiator.canCreateUsingDefault()
+                    || instantiator.canCreateFromObjectWith()
+                    || instantiator.canCreateUsingDelegate()
+                    || instantiator.canCreateUsingArrayDelegate()
+                    || null != bean.getObjectIdReader()) {
+                return UNSUPPORTED;
+            }
+
+            BeanDescription description = config.introspect(type);
+            AnnotatedConstructor defaultConstructor = description.findDefaultConstructor();
+            Map<Object, AnnotatedMember> injectables = description.findInjectables();
+            if (null == defaultConstructor
+                    || null != description.findAnySetterAccessor()
+                    || (null != injectables && !injectables.isEmpty())) {
+                return UNSUPPORTED;
+            }
+
+            Map<String, ReadProperty> properties = new HashMap<>();
+            for (Iterator<SettableBeanProperty> it = bean.properties(); it.hasNext(); ) {
+                SettableBeanProperty property = it.next();
+                if ((MethodProperty.class != property.getClass() && FieldProperty.class != property.getClass())
+                        || property.hasValueTypeDeserializer()
+                        || null != property.getManagedReferenceName()
+                        || null != property.getObjectIdInfo()
+                        || (property.hasValueDeserializer() && !builtin(property.getValueDeserializer()))
+                        || customized(property.getMember())) {
+                    return UNSUPPORTED;
+                }
+
+                NullValueProvider nulls = property.getNullValueProvider();
+                if (NullsConstantProvider.isSkipper(nulls)) {
+                    return UNSUPPORTED;
+                }
+
+                JavaType propertyType = property.getType();
+                Object nullValue = null;
+                // A fresh null value per call (other than primitive defaults) is left to the mapper.
+                boolean nullFallback = AccessPattern.DYNAMIC == nulls.getNullAccessPattern() && !propertyType.isPrimitive();
+                if (!nullFallback) {
+                    try {
+                        nullValue = nulls.getNullValue(context);
+                    } catch (Exception e) {
+                        // e.g. FAIL_ON_NULL_FOR_PRIMITIVES: let the mapper report it.
+                        nullFallback = true;
+                    }
+                }
+
+                properties.put(property.getName(), new ReadProperty(setter(property.getMember()), propertyType,
+                        readKind(propertyType), nullValue, nullFallback));
+            }
+
+            JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(beanClass, description.getClassInfo());
+            Set<String> ignored = new HashSet<>(ignorals.findIgnoredForDeserialization());
+            ignored.addAll(description.getIgnoredPropertyNames());
+            boolean ignoreUnknown = ignorals.getIgnoreUnknown() || !config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+            AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+            for (BeanPropertyDefinition definition : description.findProperties()) {
+                if (aliased(introspector, definition.getField()) || aliased(introspector, definition.getSetter())) {
+                    // An alias is a known name the plan doesn't map.
+                    ignoreUnknown = false;
+                    break;
+                }
+            }
+
+            return new JacksonBeanPlan(null, constructor(defaultConstructor.getAnnotated()), properties, ignored, ignoreUnknown,
+                    config.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS), true);
+        } catch (Throwable e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static boolean customized(AnnotatedMember member) {
+        for (Class<? extends Annotation> annotation : PROPERTY_CUSTOMIZERS) {
+            if (member.hasAnnotation(annotation)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean aliased(AnnotationIntrospector introspector, AnnotatedMember member) {
+        if (null == member) {
+            return false;
+        }
+        List<PropertyName> aliases = introspector.findPropertyAliases(member);
+
+        return null != aliases && !aliases.isEmpty();
+    }
+
+    /**
+     * A (de)serializer of Jackson itself or of one of its modules, as opposed to an application provided one.
+     */
+    private static boolean builtin(Object handler) {
+        return ClassUtil.isJacksonStdImpl(handler) || handler.getClass().getName().startsWith("com.fasterxml.jackson.");
+    }
+
+    private static boolean plainInclusion(JsonInclude.Value inclusion) {
+        return plainInclusion(inclusion.getValueInclusion()) && plainInclusion(inclusion.getContentInclusion());
+    }
+
+    private static boolean plainInclusion(JsonInclude.Include include) {
+        return JsonInclude.Include.ALWAYS == include || JsonInclude.Include.NON_NULL == include || JsonInclude.Include.USE_DEFAULTS == include;
+    }
+
+    private static int writeKind(Class<?> raw, boolean decimalFloats, boolean plainInts) {
+        if (String.class == raw || boolean.class == raw || Boolean.class == raw) {
+            return IDENTITY;
+        }
+        if (plainInts && (int.class == raw || Integer.class == raw || long.class == raw || Long.class == raw
+                || short.class == raw || Short.class == raw || byte.class == raw || Byte.class == raw)) {
+            return IDENTITY;
+        }
+        if (decimalFloats && BigDecimal.class == raw) {
+            return IDENTITY;
+        }
+        if (decimalFloats && (double.class == raw || Double.class == raw || float.class == raw || Float.class == raw)) {
+            return FLOAT;
+        }
+        if (char.class == raw || Character.class == raw) {
+            return CHAR;
+        }
+
+        return GENERIC;
+    }
+
+    private static int readKind(JavaType type) {
+        Class<?> raw = type.getRawClass();
+        if (String.class == raw) {
+            return STRING;
+        }
+        if (int.class == raw || Integer.class == raw) {
+            return INT;
+        }
+        if (long.class == raw || Long.class == raw) {
+            return LONG;
+        }
+        if (boolean.class == raw || Boolean.class == raw) {
+            return BOOLEAN;
+        }
+        if (double.class == raw || Double.class == raw) {
+            return DOUBLE;
+        }
+        if (BigDecimal.class == raw || BigInteger.class == raw) {
+            return BigDecimal.class == raw ? DECIMAL : GENERIC;
+        }
+        if (bean(type)) {
+            return BEAN;
+        }
+        if ((List.class == raw || Collection.class == raw || ArrayList.class == raw) && bean(type.getContentType())) {
+            return BEAN_LIST;
+        }
+
+        return GENERIC;
+    }
+
+    private static boolean bean(JavaType type) {
+        Class<?> raw = type.getRawClass();
+
+        return !raw.isPrimitive() && !raw.isArray() && !raw.isEnum() && !raw.isInterface()
+                && !Modifier.isAbstract(raw.getModifiers()) && !type.isContainerType() && !raw.getName().startsWith("java.");
+    }
+
+    // ---------------------------------------------------------------- accessors
+
+    @SuppressWarnings("unchecked")
+    private static Getter getter(AnnotatedMember member) throws Throwable {
+        Member target = member.getMember();
+        if (target instanceof Method) {
+            Method method = (Method) target;
+            if (lambdaCapable(method)) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+                Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invoke();
+
+                return function::apply;
+            }
+
+            MethodHandle handle = LOOKUP.unreflect(accessible(method)).asType(MethodType.methodType(Object.class, Object.class));
+
+            return bean -> {
+                try {
+                    return (Object) handle.invokeExact(bean);
+                } catch (Throwable e) {
+                    return Jackson.throwUnchecked(e);
+                }
+            };
+        }
+
+        MethodHandle handle = LOOKUP.unreflectGetter(accessible((Field) target)).asType(MethodType.methodType(Object.class, Object.class));
+
+        return bean -> {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (Throwable e) {
+                return Jackson.throwUnchecked(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Setter setter(AnnotatedMember member) throws Throwable {
+        Member target = member.getMember();
+        if (target instanceof Method) {
+            Method method = (Method) target;
+            if (lambdaCapable(method)) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, method.getDeclaringClass(),
+                                MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType()));
+                BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) site.getTarget().invoke();
+
+                return consumer::accept;
+            }
+
+            MethodHandle handle = LOOKUP.unreflect(accessible(method)).asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (Throwable e) {
+                    Jackson.throwUnchecked(e);
+                }
+            };
+        }
+
+        MethodHandle handle = LOOKUP.unreflectSetter(accessible((Field) target)).asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable e) {
+                Jackson.throwUnchecked(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructor(Constructor<?> constructor) throws Throwable {
+        Class<?> beanClass = constructor.getDeclaringClass();
+        if (Modifier.isPublic(constructor.getModifiers()) && publicAndVisible(beanClass)) {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle,
+                    MethodType.methodType(beanClass));
+
+            return (Supplier<Object>) site.getTarget().invoke();
+        }
+
+        MethodHandle handle = LOOKUP.unreflectConstructor(accessible(constructor)).asType(MethodType.methodType(Object.class));
+
+        return () -> {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (Throwable e) {
+                return Jackson.throwUnchecked(e);
+            }
+        };
+    }
+
+    private static boolean lambdaCapable(Method method) {
+        return Modifier.isPublic(method.getModifiers()) && publicAndVisible(method.getDeclaringClass());
+    }
+
+    /**
+     * The generated lambda classes link against the bean class from this library's class loader.
+     */
+    private static boolean publicAndVisible(Class<?> type) {
+        for (Class<?> c = type; null != c; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return type == Class.forName(type.getName(), false, JacksonBeanPlan.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        member.setAccessible(true);
+
+        return member;
+    }
+
+    // ----------------------------------------------------------------
+
+    @FunctionalInterface
+    interface Getter {
+        Object get(Object bean) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface Setter {
+        void set(Object bean, Object value) throws Exception;
+    }
+
+    static final class WriteProperty {
+
+        final String name;
+        final Class<?> type;
+        final Getter getter;
+        final boolean suppressNulls;
+        final int kind;
+
+        WriteProperty(String name, Class<?> type, Getter getter, boolean suppressNulls, int kind) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.suppressNulls = suppressNulls;
+            this.kind = kind;
+        }
+    }
+
+    static final class ReadProperty {
+
+        final Setter setter;
+        final JavaType type;
+        final int kind;
+        final Object nullValue;
+        final boolean nullFallback;
+
+        ReadProperty(Setter setter, JavaType type, int kind, Object nullValue, boolean nullFallback) {
+            this.setter = setter;
+            this.type = type;
+            this.kind = kind;
+            this.nullValue = nullValue;
+            this.nullFallback = nullFallback;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@code JacksonBinaryFormat}
+ * <p>
+ * The mapper lifecycle and the {@code parseObject}/{@code parseList}/{@code toBytes} surface
+ * shared by the binary dataformat facades ({@code Smile}, {@code Cbor}), each facade holds one instance.
+ * <p>
+ * Replacing or dropping the mapper also drops the readers, writers and plans cached for it,
+ * like {@link Jackson#injectSharedObjectMapper(ObjectMapper)} and {@link Jackson#clean()}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonBinaryFormat {
+
+    private final Supplier<ObjectMapper> factory;
+
+    private volatile ObjectMapper sharedObjectMapper;
+    private volatile ObjectMapper defaultObjectMapper;
+
+    public JacksonBinaryFormat(Supplier<ObjectMapper> factory) {
+        this.factory = Objects.requireNonNull(factory, "infras: the objectMapper factory can't be null.");
+    }
+
+    // ----------------------------------------------------------------
+
+    public void injectSharedObjectMapper(ObjectMapper objectMapper) {
+        this.sharedObjectMapper = objectMapper;
+        cleanCaches();
+    }
+
+    public ObjectMapper getObjectMapper() {
+        ObjectMapper objectMapper = this.sharedObjectMapper;
+        if (null != objectMapper) {
+            return objectMapper;
+        }
+        objectMapper = this.defaultObjectMapper;
+        if (null == objectMapper) {
+            synchronized (this) {
+                objectMapper = this.defaultObjectMapper;
+                if (null == objectMapper) {
+                    objectMapper = this.factory.get();
+                    this.defaultObjectMapper = objectMapper;
+                }
+            }
+        }
+
+        return objectMapper;
+    }
+
+    public void clean() {
+        this.defaultObjectMapper = null;
+        cleanCaches();
+    }
+
+    private static void cleanCaches() {
+        JacksonRegistry.clean();
+        JacksonBeanConverter.clean();
+        JacksonCanonical.clean();
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> T parseObject(byte[] data, Class<T> clazz) {
+        return Jackson.parseObject(this.getObjectMapper(), data, clazz);
+    }
+
+    public <T> T parseObject(InputStream data, Class<T> clazz) {
+        return Jackson.parseObject(this.getObjectMapper(), data, clazz);
+    }
+
+    public <T> T parseObject(byte[] data, TypeReference<T> typeRef) {
+        return Jackson.parseObject(this.getObjectMapper(), data, typeRef);
+    }
+
+    public <T> T parseObject(InputStream data, TypeReference<T> typeRef) {
+        return Jackson.parseObject(this.getObjectMapper(), data, typeRef);
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> List<T> parseList(byte[] data, Class<T> clazz) {
+        return Jackson.parseList(this.getObjectMapper(), data, clazz);
+    }
+
+    public <T> List<T> parseList(InputStream data, Class<T> clazz) {
+        return Jackson.parseList(this.getObjectMapper(), data, clazz);
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> byte[] toBytes(T object) {
+        return Jackson.toBytes(this.getObjectMapper(), object);
+    }
+
+    public <T> void writeTo(OutputStream output, T object) {
+        Jackson.writeTo(this.getObjectMapper(), output, object);
+    }
+}
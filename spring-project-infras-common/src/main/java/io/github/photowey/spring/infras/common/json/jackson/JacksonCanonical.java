@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code JacksonCanonical}
+ * <p>
+ * Derives the canonical form of a mapper: bean properties and map entries sorted by name,
+ * no indentation, and floating point numbers written in one normalized form,
+ * so equal content serializes to equal bytes regardless of declaration order, insertion order or numeric representation.
+ * <p>
+ * Numbers are normalized by value: {@code 1}, {@code 1.0d}, {@code 1.0f} and {@code new BigDecimal("1.00")} are all written as {@code 1},
+ * fractions use the shortest round-trip digits without trailing zeros,
+ * and magnitudes outside {@code [1e-7, 1e21)} use the exponent form ({@code 1E+21}).
+ * Properties listed by {@code @JsonPropertyOrder} keep that order, and {@code JsonNode} trees are written as they are.
+ * <p>
+ * The canonical mappers are cached per source mapper, see {@link #clean()}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonCanonical {
+
+    private static final double MAX_INTEGRAL = 1e15;
+    /**
+     * Within {@code [1e-3, 1e7)}, {@link Double#toString(double)} and {@link Float#toString(float)} of a non-integral value
+     * are already plain, shortest and without trailing zeros.
+     */
+    private static final double MIN_PLAIN = 1e-3;
+    private static final double MAX_PLAIN = 1e7;
+
+    /**
+     * The max source mappers with a cached canonical copy, per-call mappers would otherwise be kept alive forever.
+     */
+    static final int MAX_MAPPERS = 1 << 4;
+
+    private static final ConcurrentHashMap<ObjectMapper, ObjectMapper> mappers = new ConcurrentHashMap<>(4);
+
+    private JacksonCanonical() {
+        AssertionErrorThrower.throwz(JacksonCanonical.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    static ObjectMapper canonical(ObjectMapper objectMapper) {
+        ObjectMapper canonical = mappers.get(objectMapper);
+        if (null != canonical) {
+            return canonical;
+        }
+
+        // Cheap bounding, like JacksonRegistry: drop an arbitrary entry instead of maintaining an access order.
+        if (mappers.size() >= MAX_MAPPERS) {
+            Iterator<ObjectMapper> it = mappers.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        return mappers.computeIfAbsent(objectMapper, JacksonCanonical::create);
+    }
+
+    static void clean() {
+        mappers.clear();
+    }
+
+    static int mappers() {
+        return mappers.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("deprecation")
+    private static ObjectMapper create(ObjectMapper objectMapper) {
+        SimpleModule numbers = new SimpleModule("infras-canonical-numbers");
+        NumberSerializer serializer = new NumberSerializer();
+        numbers.addSerializer(Double.class, serializer);
+        numbers.addSerializer(Double.TYPE, serializer);
+        numbers.addSerializer(Float.class, serializer);
+        numbers.addSerializer(Float.TYPE, serializer);
+        numbers.addSerializer(BigDecimal.class, serializer);
+        numbers.addSerializer(double[].class, new DoubleArraySerializer());
+        numbers.addSerializer(float[].class, new FloatArraySerializer());
+
+        // @formatter:off
+        return objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                .configure(SerializationFeature.INDENT_OUTPUT, false)
+                .registerModule(numbers);
+        // @formatter:on
+    }
+
+    static String normalize(BigDecimal value) {
+        if (0 == value.signum()) {
+            return "0";
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        int exponent = stripped.precision() - stripped.scale() - 1;
+
+        return exponent >= -7 && exponent < 21 ? stripped.toPlainString() : stripped.toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void writeDouble(JsonGenerator generator, double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // Not representable as a JSON number: let the generator's own rules decide (a quoted string or an error).
+            generator.writeNumber(value);
+        } else if (value == Math.rint(value) && Math.abs(value) < MAX_INTEGRAL) {
+            generator.writeNumber((long) value);
+        } else if (isPlain(value)) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNumber(normalize(new BigDecimal(Double.toString(value))));
+        }
+    }
+
+    private static void writeFloat(JsonGenerator generator, float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            generator.writeNumber(value);
+        } else if (value == Math.rint(value) && Math.abs(value) < MAX_INTEGRAL) {
+            generator.writeNumber((long) value);
+        } else if (isPlain(value)) {
+            generator.writeNumber(value);
+        } else {
+            // Float#toString keeps the shortest digits of the float, not of its (longer) double widening.
+            generator.writeNumber(normalize(new BigDecimal(Float.toString(value))));
+        }
+    }
+
+    private static boolean isPlain(double value) {
+        double abs = Math.abs(value);
+
+        return abs >= MIN_PLAIN && abs < MAX_PLAIN;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class NumberSerializer extends StdSerializer<Number> {
+
+        private static final long serialVersionUID = 1L;
+
+        NumberSerializer() {
+            super(Number.class);
+        }
+
+        @Override
+        public void serialize(Number value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (value instanceof BigDecimal) {
+                generator.writeNumber(normalize((BigDecimal) value));
+            } else if (value instanceof Float) {
+                writeFloat(generator, value.floatValue());
+            } else {
+                writeDouble(generator, value.doubleValue());
+            }
+        }
+    }
+
+    private static class DoubleArraySerializer extends StdSerializer<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        DoubleArraySerializer() {
+            super(double[].class);
+        }
+
+        @Override
+        public void serialize(double[] values, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray(values, values.length);
+            for (double value : values) {
+                writeDouble(generator, value);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static class FloatArraySerializer extends StdSerializer<float[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        FloatArraySerializer() {
+            super(float[].class);
+        }
+
+        @Override
+        public void serialize(float[] values, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray(values, values.length);
+            for (float value : values) {
+                writeFloat(generator, value);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
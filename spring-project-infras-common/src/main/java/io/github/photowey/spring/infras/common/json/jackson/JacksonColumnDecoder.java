@@ -0,0 +1,344 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * {@code JacksonColumnDecoder}
+ * <p>
+ * Decodes a JSON array of row objects column by column into {@link JacksonColumns}, without per-row objects.
+ * <p>
+ * Number, boolean and string tokens are stored directly, string columns are dictionary encoded
+ * straight from the parser's character buffer, so a repeated value doesn't allocate.
+ * Any other token of a column is bound by the mapper, with its coercion rules and errors.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonColumnDecoder {
+
+    private static final int INITIAL_CAPACITY = 1 << 8;
+
+    private final ObjectMapper objectMapper;
+    private final JacksonColumnSchema schema;
+    private final Map<String, Integer> index;
+    private final JacksonColumnSchema.Type[] types;
+    private final Object[] columns;
+    private final BitSet[] nulls;
+    private final Dictionary[] dictionaries;
+    private final ObjectReader[] readers;
+    private final boolean[] present;
+
+    private int capacity = INITIAL_CAPACITY;
+    private int rows;
+
+    JacksonColumnDecoder(ObjectMapper objectMapper, JacksonColumnSchema schema) {
+        this.objectMapper = objectMapper;
+        this.schema = schema;
+
+        int size = schema.size();
+        this.index = new HashMap<>(size << 1);
+        this.types = new JacksonColumnSchema.Type[size];
+        this.columns = new Object[size];
+        this.nulls = new BitSet[size];
+        this.dictionaries = new Dictionary[size];
+        this.readers = new ObjectReader[size];
+        this.present = new boolean[size];
+
+        List<String> names = schema.names();
+        for (int i = 0; i < size; i++) {
+            this.index.put(names.get(i), i);
+            this.types[i] = schema.type(names.get(i));
+            this.columns[i] = allocate(this.types[i], this.capacity);
+            this.nulls[i] = new BitSet();
+            if (JacksonColumnSchema.Type.STRING == this.types[i]) {
+                this.dictionaries[i] = new Dictionary();
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    JacksonColumns decode(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (JsonToken.VALUE_NULL == token) {
+            return null;
+        }
+        if (JsonToken.START_ARRAY != token) {
+            throw new JsonParseException(parser, "infras: expected a json array of row objects, but was " + token + ".");
+        }
+
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            if (null == token) {
+                throw new JsonEOFException(parser, null, "infras: unexpected end-of-input within the json array.");
+            }
+            if (JsonToken.START_OBJECT != token) {
+                throw new JsonParseException(parser, "infras: expected a json row object, but was " + token + ".");
+            }
+            this.readRow(parser);
+        }
+
+        return this.build();
+    }
+
+    private void readRow(JsonParser parser) throws IOException {
+        if (this.rows == this.capacity) {
+            this.grow();
+        }
+        Arrays.fill(this.present, false);
+
+        String name;
+        while (null != (name = parser.nextFieldName())) {
+            JsonToken token = parser.nextToken();
+            Integer column = this.index.get(name);
+            if (null == column) {
+                parser.skipChildren();
+                continue;
+            }
+            if (this.present[column]) {
+                // A duplicate member, the last one wins.
+                this.nulls[column].clear(this.rows);
+            }
+            this.present[column] = true;
+            this.read(parser, token, column);
+        }
+        if (JsonToken.END_OBJECT != parser.currentToken()) {
+            throw new JsonEOFException(parser, null, "infras: unexpected end-of-input within a json row object.");
+        }
+
+        for (int column = 0; column < this.present.length; column++) {
+            if (!this.present[column]) {
+                this.markNull(column);
+            }
+        }
+        this.rows++;
+    }
+
+    private void read(JsonParser parser, JsonToken token, int column) throws IOException {
+        int row = this.rows;
+        if (JsonToken.VALUE_NULL == token) {
+            this.markNull(column);
+            return;
+        }
+
+        switch (this.types[column]) {
+            case INT:
+                ((int[]) this.columns[column])[row] = JsonToken.VALUE_NUMBER_INT == token
+                        ? parser.getIntValue()
+                        : this.reader(column, int.class).<Integer>readValue(parser);
+                break;
+            case LONG:
+                ((long[]) this.columns[column])[row] = JsonToken.VALUE_NUMBER_INT == token
+                        ? parser.getLongValue()
+                        : this.reader(column, long.class).<Long>readValue(parser);
+                break;
+            case DOUBLE:
+                ((double[]) this.columns[column])[row] = JsonToken.VALUE_NUMBER_FLOAT == token || JsonToken.VALUE_NUMBER_INT == token
+                        ? parser.getDoubleValue()
+                        : this.reader(column, double.class).<Double>readValue(parser);
+                break;
+            case BOOLEAN:
+                ((boolean[]) this.columns[column])[row] = JsonToken.VALUE_TRUE == token
+                        || (JsonToken.VALUE_FALSE != token && this.reader(column, boolean.class).<Boolean>readValue(parser));
+                break;
+            default:
+                ((int[]) this.columns[column])[row] = JsonToken.VALUE_STRING == token
+                        ? this.dictionaries[column].code(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                        : this.dictionaries[column].code(this.reader(column, String.class).<String>readValue(parser));
+                break;
+        }
+    }
+
+    private void markNull(int column) {
+        this.nulls[column].set(this.rows);
+        if (JacksonColumnSchema.Type.STRING == this.types[column]) {
+            ((int[]) this.columns[column])[this.rows] = -1;
+        }
+    }
+
+    private ObjectReader reader(int column, Class<?> type) {
+        ObjectReader reader = this.readers[column];
+        if (null == reader) {
+            reader = JacksonRegistry.reader(this.objectMapper, type);
+            this.readers[column] = reader;
+        }
+
+        return reader;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void grow() {
+        if (this.capacity >= Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("infras: the json array is too large.");
+        }
+        this.capacity = (int) Math.min((long) this.capacity << 1, Integer.MAX_VALUE - 8);
+        for (int i = 0; i < this.columns.length; i++) {
+            this.columns[i] = resize(this.columns[i], this.capacity);
+        }
+    }
+
+    private JacksonColumns build() {
+        Object[] result = new Object[this.columns.length];
+        for (int i = 0; i < this.columns.length; i++) {
+            Object column = resize(this.columns[i], this.rows);
+            result[i] = JacksonColumnSchema.Type.STRING == this.types[i]
+                    ? new JacksonColumns.StringColumn((int[]) column, this.dictionaries[i].values())
+                    : column;
+        }
+
+        return new JacksonColumns(this.schema, this.rows, result, this.nulls);
+    }
+
+    private static Object allocate(JacksonColumnSchema.Type type, int capacity) {
+        switch (type) {
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            case BOOLEAN:
+                return new boolean[capacity];
+            default:
+                // INT values and STRING codes
+                return new int[capacity];
+        }
+    }
+
+    private static Object resize(Object column, int length) {
+        if (column instanceof long[]) {
+            return Arrays.copyOf((long[]) column, length);
+        }
+        if (column instanceof double[]) {
+            return Arrays.copyOf((double[]) column, length);
+        }
+        if (column instanceof boolean[]) {
+            return Arrays.copyOf((boolean[]) column, length);
+        }
+
+        return Arrays.copyOf((int[]) column, length);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * An open addressing string dictionary, looked up by character ranges so that known values don't allocate.
+     */
+    static final class Dictionary {
+
+        private String[] values = new String[16];
+        private int[] hashes = new int[16];
+        private int size;
+
+        /**
+         * The slots hold {@code code + 1}, {@code 0} is empty.
+         */
+        private int[] table = new int[32];
+
+        int code(char[] chars, int offset, int length) {
+            int hash = 0;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                hash = 31 * hash + chars[i];
+            }
+
+            int mask = this.table.length - 1;
+            for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+                int entry = this.table[slot];
+                if (0 == entry) {
+                    return this.add(new String(chars, offset, length), hash, slot);
+                }
+                int code = entry - 1;
+                if (this.hashes[code] == hash && matches(this.values[code], chars, offset, length)) {
+                    return code;
+                }
+            }
+        }
+
+        int code(String value) {
+            int hash = value.hashCode();
+            int mask = this.table.length - 1;
+            for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+                int entry = this.table[slot];
+                if (0 == entry) {
+                    return this.add(value, hash, slot);
+                }
+                int code = entry - 1;
+                if (this.hashes[code] == hash && this.values[code].equals(value)) {
+                    return code;
+                }
+            }
+        }
+
+        List<String> values() {
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(this.values, this.size)));
+        }
+
+        private int add(String value, int hash, int slot) {
+            int code = this.size++;
+            if (code == this.values.length) {
+                this.values = Arrays.copyOf(this.values, code << 1);
+                this.hashes = Arrays.copyOf(this.hashes, code << 1);
+            }
+            this.values[code] = value;
+            this.hashes[code] = hash;
+            this.table[slot] = code + 1;
+            if (this.size << 1 > this.table.length) {
+                this.rehash();
+            }
+
+            return code;
+        }
+
+        private void rehash() {
+            int[] table = new int[this.table.length << 1];
+            int mask = table.length - 1;
+            for (int code = 0; code < this.size; code++) {
+                int slot = spread(this.hashes[code]) & mask;
+                while (0 != table[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = code + 1;
+            }
+            this.table = table;
+        }
+
+        private static boolean matches(String value, char[] chars, int offset, int length) {
+            if (value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
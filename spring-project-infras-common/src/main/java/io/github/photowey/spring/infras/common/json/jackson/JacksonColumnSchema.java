@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code JacksonColumnSchema}
+ * <p>
+ * The columns of a columnar decode, see {@link Jackson#parseColumns(java.io.InputStream, JacksonColumnSchema)}.
+ * Each column is a top-level member of the row objects; the other members are skipped.
+ * <pre>
+ * JacksonColumnSchema schema = JacksonColumnSchema.builder()
+ *         .longColumn("ts")
+ *         .doubleColumn("v")
+ *         .stringColumn("tag")
+ *         .build();
+ * </pre>
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonColumnSchema {
+
+    public enum Type {
+        INT, LONG, DOUBLE, BOOLEAN,
+        /**
+         * Dictionary encoded: an {@code int} code per row and the distinct values.
+         */
+        STRING
+    }
+
+    private final List<String> names;
+    private final Map<String, Type> types;
+
+    private JacksonColumnSchema(Builder builder) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(builder.types.keySet()));
+        this.types = Collections.unmodifiableMap(new LinkedHashMap<>(builder.types));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the column names, in declaration order
+     */
+    public List<String> names() {
+        return this.names;
+    }
+
+    /**
+     * @param name the column name
+     * @return the column type, {@code null} if absent
+     */
+    public Type type(String name) {
+        return this.types.get(name);
+    }
+
+    public int size() {
+        return this.names.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static final class Builder {
+
+        private final Map<String, Type> types = new LinkedHashMap<>(8);
+
+        private Builder() {
+        }
+
+        public Builder intColumn(String name) {
+            return this.column(name, Type.INT);
+        }
+
+        public Builder longColumn(String name) {
+            return this.column(name, Type.LONG);
+        }
+
+        public Builder doubleColumn(String name) {
+            return this.column(name, Type.DOUBLE);
+        }
+
+        public Builder booleanColumn(String name) {
+            return this.column(name, Type.BOOLEAN);
+        }
+
+        public Builder stringColumn(String name) {
+            return this.column(name, Type.STRING);
+        }
+
+        public Builder column(String name, Type type) {
+            if (null == name || null == type) {
+                throw new IllegalArgumentException("infras: the column name and type can't be null.");
+            }
+            if (null != this.types.putIfAbsent(name, type)) {
+                throw new IllegalArgumentException("infras: duplicate column: " + name);
+            }
+
+            return this;
+        }
+
+        public JacksonColumnSchema build() {
+            if (this.types.isEmpty()) {
+                throw new IllegalArgumentException("infras: the column schema can't be empty.");
+            }
+
+            return new JacksonColumnSchema(this);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * {@code JacksonColumns}
+ * <p>
+ * The struct-of-arrays result of {@link Jackson#parseColumns(java.io.InputStream, JacksonColumnSchema)}:
+ * one primitive array per numeric/boolean column and a dictionary encoded {@link StringColumn} per string column,
+ * all of {@link #rows()} length.
+ * <p>
+ * A row where the member is missing or {@code null} holds {@code 0}/{@code false} (a {@code -1} code for strings)
+ * and is reported by {@link #isNull(String, int)}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonColumns {
+
+    private final JacksonColumnSchema schema;
+    private final int rows;
+    private final Object[] columns;
+    private final BitSet[] nulls;
+
+    JacksonColumns(JacksonColumnSchema schema, int rows, Object[] columns, BitSet[] nulls) {
+        this.schema = schema;
+        this.rows = rows;
+        this.columns = columns;
+        this.nulls = nulls;
+    }
+
+    public JacksonColumnSchema schema() {
+        return this.schema;
+    }
+
+    public int rows() {
+        return this.rows;
+    }
+
+    // ----------------------------------------------------------------
+
+    public int[] ints(String name) {
+        return (int[]) this.column(name, JacksonColumnSchema.Type.INT);
+    }
+
+    public long[] longs(String name) {
+        return (long[]) this.column(name, JacksonColumnSchema.Type.LONG);
+    }
+
+    public double[] doubles(String name) {
+        return (double[]) this.column(name, JacksonColumnSchema.Type.DOUBLE);
+    }
+
+    public boolean[] booleans(String name) {
+        return (boolean[]) this.column(name, JacksonColumnSchema.Type.BOOLEAN);
+    }
+
+    public StringColumn strings(String name) {
+        return (StringColumn) this.column(name, JacksonColumnSchema.Type.STRING);
+    }
+
+    public boolean isNull(String name, int row) {
+        if (row < 0 || row >= this.rows) {
+            throw new IndexOutOfBoundsException("infras: row " + row + " out of [0, " + this.rows + ").");
+        }
+
+        return this.nulls[this.indexOf(name)].get(row);
+    }
+
+    // ----------------------------------------------------------------
+
+    private Object column(String name, JacksonColumnSchema.Type type) {
+        int index = this.indexOf(name);
+        if (type != this.schema.type(name)) {
+            throw new IllegalArgumentException("infras: the column " + name + " is a " + this.schema.type(name) + " column, not " + type + ".");
+        }
+
+        return this.columns[index];
+    }
+
+    private int indexOf(String name) {
+        int index = this.schema.names().indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("infras: unknown column: " + name);
+        }
+
+        return index;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A dictionary encoded string column: {@code dictionary().get(codes()[row])}.
+     */
+    public static final class StringColumn {
+
+        private final int[] codes;
+        private final List<String> dictionary;
+
+        StringColumn(int[] codes, List<String> dictionary) {
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * @return the dictionary code per row, {@code -1} for {@code null}
+         */
+        public int[] codes() {
+            return this.codes;
+        }
+
+        /**
+         * @return the distinct values, in first-seen order
+         */
+        public List<String> dictionary() {
+            return this.dictionary;
+        }
+
+        public String get(int row) {
+            int code = this.codes[row];
+
+            return code < 0 ? null : this.dictionary.get(code);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code JacksonCopyPlan}
+ * <p>
+ * A property-copy plan of a (source class, target class) pair, combining the source {@link JacksonBeanPlan} write plan
+ * with the target read plan. Values of the same scalar type are copied as-is, nested beans and bean lists
+ * recurse into their own pair plans, the other values go through the map value the mapper would produce.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonCopyPlan {
+
+    static final JacksonCopyPlan UNSUPPORTED = new JacksonCopyPlan(null, null, null);
+
+    static final int CONVERT = 0;
+    static final int DIRECT = 1;
+
+    /**
+     * Types whose value survives a serialize/deserialize round-trip unchanged when source and target agree.
+     */
+    private static final Set<Class<?>> DIRECT_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Integer.class, Long.class, Short.class, Byte.class,
+            Double.class, Float.class, Character.class
+    ));
+
+    final JacksonBeanPlan source;
+    final JacksonBeanPlan target;
+    final Step[] steps;
+
+    private JacksonCopyPlan(JacksonBeanPlan source, JacksonBeanPlan target, Step[] steps) {
+        this.source = source;
+        this.target = target;
+        this.steps = steps;
+    }
+
+    boolean supported() {
+        return this != UNSUPPORTED;
+    }
+
+    // ----------------------------------------------------------------
+
+    static JacksonCopyPlan of(JacksonBeanPlan source, JacksonBeanPlan target) {
+        if (!source.supported() || !target.supported()) {
+            return UNSUPPORTED;
+        }
+
+        List<Step> steps = new ArrayList<>(source.writeProperties.length);
+        for (JacksonBeanPlan.WriteProperty property : source.writeProperties) {
+            JacksonBeanPlan.ReadProperty targetProperty = target.readProperties.get(property.name);
+            if (null == targetProperty) {
+                if (target.skippable(property.name)) {
+                    continue;
+                }
+                // Unknown or aliased: let the mapper decide.
+                return UNSUPPORTED;
+            }
+
+            steps.add(new Step(property, targetProperty, mode(property, targetProperty, target)));
+        }
+
+        return new JacksonCopyPlan(source, target, steps.toArray(new Step[0]));
+    }
+
+    private static int mode(JacksonBeanPlan.WriteProperty property, JacksonBeanPlan.ReadProperty target, JacksonBeanPlan plan) {
+        Class<?> from = box(property.type);
+        Class<?> to = box(target.type.getRawClass());
+        if (from == to && DIRECT_TYPES.contains(from)) {
+            return DIRECT;
+        }
+        if (BigDecimal.class == from && BigDecimal.class == to && plan.decimalFloats) {
+            return DIRECT;
+        }
+
+        return CONVERT;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (int.class == type) {
+            return Integer.class;
+        }
+        if (long.class == type) {
+            return Long.class;
+        }
+        if (double.class == type) {
+            return Double.class;
+        }
+        if (boolean.class == type) {
+            return Boolean.class;
+        }
+        if (float.class == type) {
+            return Float.class;
+        }
+        if (short.class == type) {
+            return Short.class;
+        }
+        if (byte.class == type) {
+            return Byte.class;
+        }
+
+        return char.class == type ? Character.class : type;
+    }
+
+    // ----------------------------------------------------------------
+
+    static final class Step {
+
+        final JacksonBeanPlan.WriteProperty source;
+        final JacksonBeanPlan.ReadProperty target;
+        final int mode;
+
+        Step(JacksonBeanPlan.WriteProperty source, JacksonBeanPlan.ReadProperty target, int mode) {
+            this.source = source;
+            this.target = target;
+            this.mode = mode;
+        }
+    }
+
+    static final class Key {
+
+        final Class<?> source;
+        final Class<?> target;
+
+        Key(Class<?> source, Class<?> target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+
+            return this.source == that.source && this.target == that.target;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.source, this.target);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * {@code JacksonIncrementalDecoder}
+ * <p>
+ * A push-style decoder on top of Jackson's non-blocking parser: byte chunks are fed as they arrive,
+ * and each completed top-level value is bound and handed to the callback on the feeding thread.
+ * The elements of a top-level Array are emitted one by one, so a huge Array body is never held as a whole;
+ * unless the target is itself a collection or an array type, then each top-level Array is bound and emitted as one value.
+ * Several top-level values in a row (concatenated or newline-delimited) are emitted in order.
+ * <p>
+ * Not thread-safe, feed the chunks of one body from one thread at a time.
+ *
+ * <pre>
+ * JacksonIncrementalDecoder&lt;Order&gt; decoder = Jackson.incrementalDecoder(Order.class, this::handle);
+ * // per chunk
+ * decoder.feed(chunk);
+ * // on end of body
+ * decoder.endOfInput();
+ * </pre>
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonIncrementalDecoder<T> implements Closeable {
+
+    private static final int SCRATCH_BUFFER_SIZE = 1 << 13;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectReader reader;
+    private final Consumer<? super T> callback;
+    private final boolean forceBigDecimal;
+    private final boolean unwrapRootArray;
+
+    private byte[] scratch;
+
+    private boolean inRootArray;
+    private TokenBuffer value;
+    private int valueDepth;
+
+    JacksonIncrementalDecoder(ObjectMapper objectMapper, ObjectReader reader, Consumer<? super T> callback) {
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("infras: the json factory does not support non-blocking parsing.", e);
+        }
+        this.feeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.callback = callback;
+        this.forceBigDecimal = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        JavaType type = reader.getValueType();
+        this.unwrapRootArray = null == type || !(type.isCollectionLikeType() || type.isArrayType());
+    }
+
+    // ----------------------------------------------------------------
+
+    public void feed(byte[] chunk) {
+        this.feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Feed the next chunk, the completed values are emitted before this method returns,
+     * so the caller may reuse the {@code chunk} array afterwards.
+     *
+     * @param chunk  the bytes
+     * @param offset the offset
+     * @param length the length
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        try {
+            this.feeder.feedInput(chunk, offset, offset + length);
+            this.drain();
+        } catch (IOException e) {
+            Jackson.throwUnchecked(e);
+        }
+    }
+
+    /**
+     * Feed the remaining bytes of {@code chunk}, the buffer position is advanced to its limit.
+     *
+     * @param chunk the bytes
+     */
+    public void feed(ByteBuffer chunk) {
+        if (chunk.hasArray()) {
+            int length = chunk.remaining();
+            this.feed(chunk.array(), chunk.arrayOffset() + chunk.position(), length);
+            ((Buffer) chunk).position(chunk.limit());
+            return;
+        }
+
+        if (null == this.scratch) {
+            this.scratch = new byte[SCRATCH_BUFFER_SIZE];
+        }
+        while (chunk.hasRemaining()) {
+            int length = Math.min(chunk.remaining(), this.scratch.length);
+            chunk.get(this.scratch, 0, length);
+            this.feed(this.scratch, 0, length);
+        }
+    }
+
+    /**
+     * Signal the end of the body and emit the last value.
+     *
+     */
+    public void endOfInput() {
+        try {
+            this.feeder.endOfInput();
+            this.drain();
+            if (null != this.value || this.inRootArray) {
+                throw new JsonEOFException(this.parser, null, "infras: unexpected end of json input");
+            }
+        } catch (IOException e) {
+            Jackson.throwUnchecked(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.parser.close();
+        } catch (IOException e) {
+            Jackson.throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (null != (token = this.parser.nextToken()) && JsonToken.NOT_AVAILABLE != token) {
+            if (null == this.value) {
+                if (this.inRootArray && JsonToken.END_ARRAY == token) {
+                    this.inRootArray = false;
+                    continue;
+                }
+                if (!this.inRootArray && this.unwrapRootArray && JsonToken.START_ARRAY == token) {
+                    this.inRootArray = true;
+                    continue;
+                }
+
+                this.value = new TokenBuffer(this.parser);
+                this.value.forceUseOfBigDecimal(this.forceBigDecimal);
+                this.valueDepth = 0;
+            }
+
+            this.value.copyCurrentEvent(this.parser);
+            if (token.isStructStart()) {
+                this.valueDepth++;
+            } else if (token.isStructEnd()) {
+                this.valueDepth--;
+            }
+            if (0 == this.valueDepth) {
+                this.emit();
+            }
+        }
+    }
+
+    private void emit() throws IOException {
+        TokenBuffer completed = this.value;
+        this.value = null;
+
+        try (JsonParser buffered = completed.asParser()) {
+            T object = this.reader.readValue(buffered);
+            this.callback.accept(object);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@code JacksonInstancePool}
+ * <p>
+ * A bounded pool of DTO instances that JSON is parsed into, see {@link Jackson#instancePool(Class, Supplier, Consumer, int)}.
+ * {@code parse} hands out a pooled instance (or a new one if the pool is empty) updated from the JSON,
+ * {@link #release(Object)} resets it and takes it back, so a warmed-up pool allocates no DTOs.
+ * <p>
+ * Properties missing from the JSON keep the values left by the previous message unless the {@code reset} clears them;
+ * nested beans and collections are replaced, not merged, unless annotated with {@code @JsonMerge}.
+ * The backing queue is array based, neither {@code parse} nor {@link #release(Object)} allocates for the pool itself.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonInstancePool<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> reset;
+    private final ArrayBlockingQueue<T> instances;
+
+    private final LongAdder created = new LongAdder();
+
+    JacksonInstancePool(ObjectMapper objectMapper, Class<T> type, Supplier<? extends T> factory, Consumer<? super T> reset, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("infras: the pool capacity must be positive.");
+        }
+        this.objectMapper = Objects.requireNonNull(objectMapper, "infras: the objectMapper can't be null.");
+        this.type = type;
+        this.factory = factory;
+        this.reset = reset;
+        this.instances = new ArrayBlockingQueue<>(capacity);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Parse into a pooled instance, the instance is released back to the pool if the json can't be parsed.
+     */
+    public T parse(String json) {
+        T instance = this.acquire();
+        try {
+            return Jackson.parseInto(this.objectMapper, json, instance);
+        } catch (Throwable e) {
+            this.release(instance);
+            throw e;
+        }
+    }
+
+    public T parse(byte[] json) {
+        T instance = this.acquire();
+        try {
+            return Jackson.parseInto(this.objectMapper, json, instance);
+        } catch (Throwable e) {
+            this.release(instance);
+            throw e;
+        }
+    }
+
+    public T parse(InputStream json) {
+        T instance = this.acquire();
+        try {
+            return Jackson.parseInto(this.objectMapper, json, instance);
+        } catch (Throwable e) {
+            this.release(instance);
+            throw e;
+        }
+    }
+
+    /**
+     * Borrow an instance, creating one if the pool is empty.
+     *
+     * @return the instance
+     */
+    public T acquire() {
+        T instance = this.instances.poll();
+        if (null != instance) {
+            return instance;
+        }
+        this.created.increment();
+
+        return this.factory.get();
+    }
+
+    /**
+     * Reset an instance and return it to the pool, it is dropped if the pool is full.
+     * The caller must not use the instance afterwards.
+     *
+     * @param instance the instance
+     */
+    public void release(T instance) {
+        if (null == instance) {
+            return;
+        }
+        if (null != this.reset) {
+            this.reset.accept(instance);
+        }
+        this.instances.offer(instance);
+    }
+
+    // ----------------------------------------------------------------
+
+    public Class<T> type() {
+        return this.type;
+    }
+
+    public int available() {
+        return this.instances.size();
+    }
+
+    /**
+     * The instances created by the factory so far, flat once the pool is warmed up.
+     */
+    public long created() {
+        return this.created.sum();
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@code JacksonParallelArrays}
+ * <p>
+ * Decodes a large top-level JSON array on an {@link Executor}: a structural pre-scan on the calling thread
+ * splits the array at element boundaries into about {@code parts} byte ranges, each range is bound as a list of its own
+ * and the lists are joined in input order.
+ * <p>
+ * Element types using object ids or managed/back references are not split, see {@link #isSplittable(ObjectMapper, JavaType)}.
+ * A range that fails to bind makes the whole input be parsed again sequentially, so errors are reported
+ * at their real location instead of one relative to the range.
+ * <p>
+ * The scan only understands strict JSON structure (double-quoted strings, brackets and commas).
+ * Anything else (comments, single quotes, missing values, trailing commas or content) makes {@link #split(byte[], int)}
+ * give up, so the caller falls back to a sequential parse, which keeps the mapper's own rules and error messages.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonParallelArrays {
+
+    private JacksonParallelArrays() {
+        AssertionErrorThrower.throwz(JacksonParallelArrays.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Decode the ranges of {@code boundaries} in parallel.
+     *
+     * @param reader     the {@code List<T>} reader
+     * @param json       the json bytes
+     * @param boundaries the delimiter offsets, see {@link #split(byte[], int)}
+     * @param executor   the decoding executor
+     * @param <T>        the element type
+     * @return the joined list
+     */
+    static <T> List<T> parseList(ObjectReader reader, byte[] json, int[] boundaries, Executor executor) {
+        int parts = boundaries.length - 1;
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            int from = boundaries[i];
+            int to = boundaries[i + 1];
+            futures.add(CompletableFuture.supplyAsync(() -> decode(reader, json, from, to), executor));
+        }
+
+        List<List<T>> lists = new ArrayList<>(parts);
+        int size = 0;
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                List<T> list = future.join();
+                lists.add(list);
+                size += list.size();
+            }
+        } catch (CompletionException e) {
+            for (CompletableFuture<List<T>> future : futures) {
+                future.cancel(false);
+            }
+            // The range error is located in the synthetic range, the sequential parse reports the real location.
+            return reparse(reader, json, null != e.getCause() ? e.getCause() : e);
+        }
+
+        List<T> values = new ArrayList<>(size);
+        for (List<T> list : lists) {
+            values.addAll(list);
+        }
+
+        return values;
+    }
+
+    private static <T> List<T> reparse(ObjectReader reader, byte[] json, Throwable cause) {
+        try {
+            // The whole input may bind where a range didn't, its result is then the right one.
+            return reader.readValue(json);
+        } catch (Exception e) {
+            e.addSuppressed(cause);
+            return Jackson.throwUnchecked(e);
+        }
+    }
+
+    private static <T> List<T> decode(ObjectReader reader, byte[] json, int from, int to) {
+        try {
+            return reader.readValue(new RangeInputStream(json, from, to));
+        } catch (Exception e) {
+            return Jackson.throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Whether the elements of {@code type} can be bound range by range.
+     * <p>
+     * Object ids and managed/back references are resolved within one {@code DeserializationContext},
+     * a reference crossing a split point would silently stay {@code null}: such types, or types with such properties
+     * at any depth, are parsed sequentially.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param type         the element type
+     * @return {@code true} if no object id or managed/back reference is involved
+     */
+    static boolean isSplittable(ObjectMapper objectMapper, JavaType type) {
+        return !usesReferences(objectMapper.getDeserializationConfig(), type, new HashSet<>());
+    }
+
+    private static boolean usesReferences(DeserializationConfig config, JavaType type, Set<Class<?>> visited) {
+        if (type.isContainerType() || type.isReferenceType()) {
+            JavaType content = type.getContentType();
+            return null != content && usesReferences(config, content, visited);
+        }
+        Class<?> raw = type.getRawClass();
+        if (type.isPrimitive() || type.isEnumType() || raw.getName().startsWith("java.") || !visited.add(raw)) {
+            return false;
+        }
+
+        BeanDescription description = config.introspect(type);
+        if (null != description.getObjectIdInfo()) {
+            return true;
+        }
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (null != property.findObjectIdInfo() || null != property.findReferenceType()) {
+                return true;
+            }
+            if (usesReferences(config, property.getPrimaryType(), visited)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Pre-scan a top-level array and pick up to {@code parts - 1} split points of about equal size.
+     *
+     * @param json  the json bytes
+     * @param parts the wanted range count
+     * @return the offsets of the opening {@code '['}, of each split comma and of the closing {@code ']'},
+     * or {@code null} if the input is not a strict JSON array or yields a single range
+     */
+    static int[] split(byte[] json, int parts) {
+        int length = json.length;
+        int i = skipWhitespace(json, 0);
+        if (i >= length || json[i] != '[') {
+            return null;
+        }
+
+        int[] boundaries = new int[parts + 1];
+        int count = 0;
+        boundaries[count++] = i;
+        long step = Math.max(1L, length / parts);
+        long target = i + step;
+
+        int depth = 1;
+        boolean value = false;
+        boolean comma = false;
+        for (i++; i < length; i++) {
+            byte b = json[i];
+            switch (b) {
+                case '"':
+                    i = skipString(json, i + 1);
+                    if (i < 0) {
+                        return null;
+                    }
+                    value = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    value = true;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth == 0) {
+                        if (comma && !value) {
+                            return null;
+                        }
+                        if (skipWhitespace(json, i + 1) != length) {
+                            return null;
+                        }
+                        if (count < 2) {
+                            return null;
+                        }
+                        boundaries[count++] = i;
+                        return count == boundaries.length ? boundaries : Arrays.copyOf(boundaries, count);
+                    }
+                    break;
+                case ',':
+                    if (depth == 1) {
+                        if (!value) {
+                            return null;
+                        }
+                        if (i >= target && count < parts) {
+                            boundaries[count++] = i;
+                            target = i + step;
+                        }
+                        value = false;
+                        comma = true;
+                    }
+                    break;
+                case '/':
+                case '#':
+                case '\'':
+                    return null;
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    break;
+                default:
+                    value = true;
+                    break;
+            }
+        }
+
+        return null;
+    }
+
+    private static int skipString(byte[] json, int from) {
+        for (int i = from; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int from) {
+        int i = from;
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+
+        return i;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Presents {@code json[from + 1, to)} as an array: the delimiter at {@code from} (a {@code '['} or a split comma)
+     * reads as {@code '['}, and a {@code ']'} is appended.
+     */
+    private static final class RangeInputStream extends InputStream {
+
+        private final byte[] json;
+        private final int from;
+        private final int to;
+
+        private int position;
+
+        RangeInputStream(byte[] json, int from, int to) {
+            this.json = json;
+            this.from = from;
+            this.to = to;
+            this.position = from;
+        }
+
+        @Override
+        public int read() {
+            if (this.position > this.to) {
+                return -1;
+            }
+            int index = this.position++;
+
+            return index == this.from ? '[' : index == this.to ? ']' : this.json[index] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (this.position > this.to) {
+                return -1;
+            }
+            if (this.position == this.to) {
+                this.position++;
+                b[off] = ']';
+                return 1;
+            }
+
+            int n = Math.min(len, this.to - this.position);
+            System.arraycopy(this.json, this.position, b, off, n);
+            if (this.position == this.from) {
+                b[off] = '[';
+            }
+            this.position += n;
+
+            return n;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.photowey.spring.infras.common.hardware.HardwareUtils;
+import io.github.photowey.spring.infras.common.json.jackson.io.ByteBufferPool;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@code JacksonParallelWriter}
+ * <p>
+ * Serializes a large {@link List} on an {@link Executor}: each range of elements is written as an array of its own
+ * into pooled heap buffers, then the ranges are stitched in order, brackets stripped and joined by commas,
+ * into one JSON array. The output is byte for byte what a sequential write of the list produces.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonParallelWriter {
+
+    private static final int CHUNK_BUFFER_SIZE = 1 << 16;
+    private static final int MIN_CHUNK_ELEMENTS = 1 << 8;
+
+    private static final ByteBufferPool chunkPool = new ByteBufferPool(HardwareUtils.getDoubleNcpu() << 3, CHUNK_BUFFER_SIZE, false);
+
+    private JacksonParallelWriter() {
+        AssertionErrorThrower.throwz(JacksonParallelWriter.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The range count for {@code values}, {@code < 2} means a sequential write.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param values       the values
+     * @param executor     the serializing executor
+     * @param threshold    the minimum element count to go parallel
+     * @return the range count
+     */
+    static int parts(ObjectMapper objectMapper, List<?> values, Executor executor, int threshold) {
+        if (null == values || values.size() < Math.max(2, threshold)) {
+            return 0;
+        }
+        // The stitching writes JSON brackets and commas: binary formats (Smile, CBOR, ...) are written sequentially.
+        if (!JsonFactory.FORMAT_NAME_JSON.equals(objectMapper.getFactory().getFormatName())) {
+            return 0;
+        }
+        // A pretty printer, a root wrapper or a type id around the list don't survive the bracket stripping.
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        if (config.isEnabled(SerializationFeature.INDENT_OUTPUT) || config.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)) {
+            return 0;
+        }
+        if (null != config.getDefaultTyper(objectMapper.constructType(List.class))) {
+            return 0;
+        }
+
+        int parallelism = Jackson.parallelism(executor);
+        if (parallelism < 2) {
+            return 0;
+        }
+
+        return Math.min(parallelism << 2, values.size() / MIN_CHUNK_ELEMENTS);
+    }
+
+    static byte[] toBytes(ObjectWriter writer, List<?> values, int parts, Executor executor) {
+        List<CompletableFuture<Chunk>> futures = submit(writer, values, parts, executor);
+        List<Chunk> chunks = new ArrayList<>(parts);
+        try {
+            int length = 1;
+            for (CompletableFuture<Chunk> future : futures) {
+                Chunk chunk = join(future);
+                chunks.add(chunk);
+                length += chunk.size - 1;
+            }
+
+            byte[] bytes = new byte[length];
+            bytes[0] = '[';
+            int position = 1;
+            for (int i = 0; i < chunks.size(); i++) {
+                if (i > 0) {
+                    bytes[position++] = ',';
+                }
+                position = chunks.get(i).copyTo(bytes, position);
+            }
+            bytes[position] = ']';
+
+            return bytes;
+        } catch (Throwable e) {
+            cancel(futures);
+            throw e;
+        } finally {
+            for (Chunk chunk : chunks) {
+                chunk.release();
+            }
+        }
+    }
+
+    static void writeTo(ObjectWriter writer, OutputStream output, List<?> values, int parts, Executor executor) throws IOException {
+        List<CompletableFuture<Chunk>> futures = submit(writer, values, parts, executor);
+        try {
+            output.write('[');
+            for (int i = 0; i < futures.size(); i++) {
+                // Earlier ranges are written out while later ones are still being serialized.
+                Chunk chunk = join(futures.get(i));
+                try {
+                    if (i > 0) {
+                        output.write(',');
+                    }
+                    chunk.writeTo(output);
+                } finally {
+                    chunk.release();
+                }
+            }
+            output.write(']');
+            output.flush();
+        } catch (Throwable e) {
+            cancel(futures);
+            throw e;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static List<CompletableFuture<Chunk>> submit(ObjectWriter writer, List<?> values, int parts, Executor executor) {
+        int size = values.size();
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            List<?> range = values.subList((int) ((long) size * i / parts), (int) ((long) size * (i + 1) / parts));
+            futures.add(CompletableFuture.supplyAsync(() -> serialize(writer, range), executor));
+        }
+
+        return futures;
+    }
+
+    private static Chunk serialize(ObjectWriter writer, List<?> range) {
+        Chunk chunk = new Chunk();
+        try {
+            writer.writeValue(chunk, range);
+            return chunk;
+        } catch (Exception e) {
+            chunk.release();
+            return Jackson.throwUnchecked(e);
+        }
+    }
+
+    private static Chunk join(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return Jackson.throwUnchecked(null != e.getCause() ? e.getCause() : e);
+        }
+    }
+
+    private static void cancel(List<CompletableFuture<Chunk>> futures) {
+        for (CompletableFuture<Chunk> future : futures) {
+            if (!future.cancel(false) && future.isDone() && !future.isCompletedExceptionally()) {
+                future.join().release();
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A growable sink of pooled buffers, holding one serialized {@code [...]} range.
+     */
+    private static final class Chunk extends OutputStream {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>(4);
+        private ByteBuffer current;
+        private int size;
+
+        @Override
+        public void write(int b) {
+            this.ensureRoom();
+            this.current.put((byte) b);
+            this.size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                this.ensureRoom();
+                int n = Math.min(len, this.current.remaining());
+                this.current.put(b, off, n);
+                off += n;
+                len -= n;
+                this.size += n;
+            }
+        }
+
+        /**
+         * Copy the range without its enclosing brackets.
+         */
+        int copyTo(byte[] target, int position) {
+            int skip = 1;
+            int remaining = this.size - 2;
+            for (ByteBuffer buffer : this.buffers) {
+                int n = Math.min(buffer.position() - skip, remaining);
+                System.arraycopy(buffer.array(), buffer.arrayOffset() + skip, target, position, n);
+                position += n;
+                remaining -= n;
+                skip = 0;
+            }
+
+            return position;
+        }
+
+        void writeTo(OutputStream output) throws IOException {
+            int skip = 1;
+            int remaining = this.size - 2;
+            for (ByteBuffer buffer : this.buffers) {
+                int n = Math.min(buffer.position() - skip, remaining);
+                output.write(buffer.array(), buffer.arrayOffset() + skip, n);
+                remaining -= n;
+                skip = 0;
+            }
+        }
+
+        void release() {
+            for (ByteBuffer buffer : this.buffers) {
+                chunkPool.release(buffer);
+            }
+            this.buffers.clear();
+            this.current = null;
+        }
+
+        private void ensureRoom() {
+            if (null == this.current || !this.current.hasRemaining()) {
+                this.current = chunkPool.acquire();
+                this.buffers.add(this.current);
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code JacksonParseCache}
+ * <p>
+ * A content-addressed cache of parse results for payloads received over and over with identical bytes
+ * (config blobs, feature flags, reference data), see {@link Jackson#parseCache(int, long, boolean)}.
+ * <p>
+ * Entries are keyed by a 64-bit hash of the input plus the target type, and a hit is confirmed against a private copy of the input,
+ * so a hash collision costs a parse but never returns a wrong result. The cache is bounded by entry count and by weight,
+ * the total length of the cached inputs; inputs heavier than the weight bound are parsed without being cached.
+ * Like {@link JacksonRegistry}, it drops arbitrary entries when full instead of maintaining an access order.
+ * <p>
+ * Without {@code copy}, every hit returns the same shared instance, which callers must treat as immutable;
+ * with {@code copy}, a hit returns a deep copy through {@link JacksonBeanConverter#convert(ObjectMapper, Object, Class)},
+ * which still skips the parse.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonParseCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 10;
+    public static final long DEFAULT_MAX_WEIGHT = 1L << 25;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final boolean copy;
+
+    private final ConcurrentHashMap<Key, Entry> entries;
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    JacksonParseCache(ObjectMapper objectMapper, int maxEntries, long maxWeight, boolean copy) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("infras: the parse cache max entries and max weight must be positive.");
+        }
+        this.objectMapper = Objects.requireNonNull(objectMapper, "infras: the objectMapper can't be null.");
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.copy = copy;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 10));
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> T parseObject(byte[] json, Class<T> clazz) {
+        Objects.requireNonNull(clazz, "infras: the target class can't be null.");
+
+        return clazz.cast(this.lookup(json, clazz));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T parseObject(byte[] json, TypeReference<T> typeRef) {
+        Objects.requireNonNull(typeRef, "infras: the type reference can't be null.");
+
+        return (T) this.lookup(json, typeRef.getType());
+    }
+
+    private Object lookup(byte[] json, Type type) {
+        Objects.requireNonNull(json, "infras: the json can't be null.");
+        Key key = new Key(hash(json), type);
+        Entry entry = this.entries.get(key);
+        if (null != entry && Arrays.equals(entry.json, json)) {
+            this.hits.increment();
+            return this.copy ? this.copyOf(entry.value, type) : entry.value;
+        }
+
+        this.misses.increment();
+        Object value = this.parse(json, type);
+        if (null != entry || json.length > this.maxWeight) {
+            // A hash collision keeps the resident entry, an oversized input is never cached.
+            return value;
+        }
+
+        Entry parsed = new Entry(json.clone(), value);
+        if (null == this.entries.putIfAbsent(key, parsed)) {
+            this.weight.addAndGet(json.length);
+            this.evict(key);
+        }
+
+        return this.copy ? this.copyOf(value, type) : value;
+    }
+
+    private Object parse(byte[] json, Type type) {
+        try {
+            return JacksonRegistry.reader(this.objectMapper, type).readValue(json);
+        } catch (Exception e) {
+            return Jackson.throwUnchecked(e);
+        }
+    }
+
+    private void evict(Key retained) {
+        Iterator<Map.Entry<Key, Entry>> it = this.entries.entrySet().iterator();
+        while ((this.entries.size() > this.maxEntries || this.weight.get() > this.maxWeight) && it.hasNext()) {
+            Map.Entry<Key, Entry> next = it.next();
+            if (retained.equals(next.getKey())) {
+                continue;
+            }
+            if (this.entries.remove(next.getKey(), next.getValue())) {
+                this.weight.addAndGet(-next.getValue().json.length);
+                this.evictions.increment();
+            }
+        }
+    }
+
+    private Object copyOf(Object value, Type type) {
+        if (null == value) {
+            return null;
+        }
+        if (type instanceof Class) {
+            return JacksonBeanConverter.convert(this.objectMapper, value, (Class<?>) type);
+        }
+
+        return this.objectMapper.convertValue(value, this.objectMapper.constructType(type));
+    }
+
+    /**
+     * FNV-1a, cheap next to the parse it saves, hits are confirmed byte by byte anyway.
+     */
+    static long hash(byte[] json) {
+        long hash = FNV_OFFSET;
+        for (byte b : json) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.entries.size(), this.weight.get());
+    }
+
+    public int maxEntries() {
+        return this.maxEntries;
+    }
+
+    public long maxWeight() {
+        return this.maxWeight;
+    }
+
+    /**
+     * Drop the cached entries and reset the counters.
+     */
+    public void clear() {
+        this.entries.clear();
+        this.weight.set(0);
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A point-in-time snapshot of the cache counters.
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final long weight;
+
+        Stats(long hits, long misses, long evictions, int size, long weight) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.weight = weight;
+        }
+
+        public long hits() {
+            return this.hits;
+        }
+
+        public long misses() {
+            return this.misses;
+        }
+
+        public long evictions() {
+            return this.evictions;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * The total length of the cached inputs.
+         */
+        public long weight() {
+            return this.weight;
+        }
+
+        public double hitRate() {
+            long total = this.hits + this.misses;
+
+            return 0 == total ? 0D : (double) this.hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("infras: jackson parse cache hits: %d, misses: %d, evictions: %d, size: %d, weight: %d, hit rate: %.2f%%",
+                    this.hits, this.misses, this.evictions, this.size, this.weight, this.hitRate() * 100D);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Key {
+
+        private final long hash;
+        private final Type type;
+
+        Key(long hash, Type type) {
+            this.hash = hash;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+
+            return this.hash == that.hash && this.type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(this.hash) + this.type.hashCode();
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] json;
+        private final Object value;
+
+        Entry(byte[] json, Object value) {
+            this.json = json;
+            this.value = value;
+        }
+    }
+}
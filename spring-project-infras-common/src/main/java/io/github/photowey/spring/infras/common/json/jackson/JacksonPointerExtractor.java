@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * {@code JacksonPointerExtractor}
+ * <p>
+ * Extracts the values of a set of JSON Pointers (RFC 6901) from the token stream.
+ * Subtrees on no requested path are skipped with {@link JsonParser#skipChildren()},
+ * and the walk stops as soon as every path is found, so no tree is built and the tail of the document is never read.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonPointerExtractor {
+
+    private final ObjectMapper objectMapper;
+    private final boolean forceBigDecimal;
+    private final Node root = new Node();
+    private final Map<String, Object> values;
+
+    private int remaining;
+
+    JacksonPointerExtractor(ObjectMapper objectMapper, Map<String, ? extends Class<?>> pointers) {
+        this.objectMapper = objectMapper;
+        this.forceBigDecimal = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.values = new LinkedHashMap<>(pointers.size() << 1);
+
+        for (Map.Entry<String, ? extends Class<?>> entry : pointers.entrySet()) {
+            Node node = this.root;
+            for (JsonPointer pointer = JsonPointer.compile(entry.getKey()); !pointer.matches(); pointer = pointer.tail()) {
+                node = node.children.computeIfAbsent(pointer.getMatchingProperty(), (x) -> new Node());
+            }
+            node.targets.put(entry.getKey(), entry.getValue());
+            this.remaining++;
+        }
+    }
+
+    /**
+     * Walk the document.
+     *
+     * @param parser the unstarted parser
+     * @return the found values keyed by pointer, missing paths are absent
+     */
+    Map<String, Object> extract(JsonParser parser) throws IOException {
+        if (null != parser.nextToken()) {
+            this.walk(parser, this.root);
+        }
+
+        return this.values;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void walk(JsonParser parser, Node node) throws IOException {
+        if (!node.targets.isEmpty()) {
+            this.bind(parser, node);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (JsonToken.START_OBJECT == token) {
+            String name;
+            while (this.remaining > 0 && null != (name = parser.nextFieldName())) {
+                parser.nextToken();
+                this.descend(parser, node.children.get(name));
+            }
+        } else if (JsonToken.START_ARRAY == token) {
+            int index = 0;
+            while (this.remaining > 0 && JsonToken.END_ARRAY != parser.nextToken()) {
+                this.descend(parser, node.children.get(String.valueOf(index++)));
+            }
+        }
+    }
+
+    private void descend(JsonParser parser, Node child) throws IOException {
+        if (null == child) {
+            parser.skipChildren();
+            return;
+        }
+
+        this.walk(parser, child);
+    }
+
+    private void bind(JsonParser parser, Node node) throws IOException {
+        if (1 == node.targets.size() && node.children.isEmpty()) {
+            Map.Entry<String, Class<?>> target = node.targets.entrySet().iterator().next();
+            this.found(target.getKey(), JacksonRegistry.reader(this.objectMapper, target.getValue()).readValue(parser));
+            return;
+        }
+
+        // Several types or nested paths on one value: buffer the subtree once and replay it.
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.forceUseOfBigDecimal(this.forceBigDecimal);
+        buffer.copyCurrentStructure(parser);
+        for (Map.Entry<String, Class<?>> target : node.targets.entrySet()) {
+            try (JsonParser replay = buffer.asParser()) {
+                this.found(target.getKey(), JacksonRegistry.reader(this.objectMapper, target.getValue()).readValue(replay));
+            }
+        }
+
+        if (!node.children.isEmpty()) {
+            Node nested = new Node();
+            nested.children.putAll(node.children);
+            try (JsonParser replay = buffer.asParser()) {
+                replay.nextToken();
+                this.walk(replay, nested);
+            }
+        }
+    }
+
+    private void found(String pointer, Object value) {
+        this.values.put(pointer, value);
+        this.remaining--;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+        private final Map<String, Class<?>> targets = new LinkedHashMap<>(2);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * {@code JacksonPrimitiveArrays}
+ * <p>
+ * Reads a JSON array of numbers straight into a growable {@code int[]}/{@code long[]}/{@code double[]},
+ * or into a reused chunk handed to a consumer, without boxing.
+ * <p>
+ * Plain number tokens are read from the parser directly; any other element (a string, {@code null}, a float for an integral array, ...)
+ * and a non-array root are bound by the mapper, so coercion rules and errors are those of {@code readValue(json, int[].class)}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonPrimitiveArrays {
+
+    private static final int INITIAL_CAPACITY = 1 << 6;
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private JacksonPrimitiveArrays() {
+        AssertionErrorThrower.throwz(JacksonPrimitiveArrays.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    static int[] readInts(ObjectMapper objectMapper, JsonParser parser, int capacity) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            return JacksonRegistry.reader(objectMapper, int[].class).readValue(parser);
+        }
+
+        int[] values = new int[capacity > 0 ? capacity : INITIAL_CAPACITY];
+        int size = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            int value;
+            if (JsonToken.VALUE_NUMBER_INT == token) {
+                value = parser.getIntValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, int.class);
+                value = element.readValue(parser);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    static long[] readLongs(ObjectMapper objectMapper, JsonParser parser, int capacity) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            return JacksonRegistry.reader(objectMapper, long[].class).readValue(parser);
+        }
+
+        long[] values = new long[capacity > 0 ? capacity : INITIAL_CAPACITY];
+        int size = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            long value;
+            if (JsonToken.VALUE_NUMBER_INT == token) {
+                value = parser.getLongValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, long.class);
+                value = element.readValue(parser);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    static double[] readDoubles(ObjectMapper objectMapper, JsonParser parser, int capacity) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            return JacksonRegistry.reader(objectMapper, double[].class).readValue(parser);
+        }
+
+        double[] values = new double[capacity > 0 ? capacity : INITIAL_CAPACITY];
+        int size = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            double value;
+            if (JsonToken.VALUE_NUMBER_FLOAT == token || JsonToken.VALUE_NUMBER_INT == token) {
+                value = parser.getDoubleValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, double.class);
+                value = element.readValue(parser);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * The initial array size for a json of {@code length} bytes (or chars), without scanning it.
+     * <p>
+     * An element takes at least two bytes (a digit and a separator), so {@code length / 2 + 1} is never exceeded;
+     * it is capped by {@link #MAX_PRESIZE}, larger arrays grow geometrically and are trimmed at the end.
+     */
+    static int capacity(int length) {
+        return Math.min((length >>> 1) + 1, MAX_PRESIZE);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Read the array in chunks of up to {@code chunkSize} values.
+     * The chunk array is reused: the consumer must copy what it keeps before returning.
+     *
+     * @return the number of values read
+     */
+    static long readInts(ObjectMapper objectMapper, JsonParser parser, int chunkSize, ObjIntConsumer<int[]> consumer) throws IOException {
+        checkChunkSize(chunkSize);
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            int[] values = JacksonRegistry.reader(objectMapper, int[].class).readValue(parser);
+            return emit(values, null != values ? values.length : 0, consumer);
+        }
+
+        int[] chunk = new int[chunkSize];
+        int size = 0;
+        long count = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            if (JsonToken.VALUE_NUMBER_INT == token) {
+                chunk[size++] = parser.getIntValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, int.class);
+                chunk[size++] = element.<Integer>readValue(parser);
+            }
+            if (size == chunkSize) {
+                count += emit(chunk, size, consumer);
+                size = 0;
+            }
+        }
+
+        return count + emit(chunk, size, consumer);
+    }
+
+    static long readLongs(ObjectMapper objectMapper, JsonParser parser, int chunkSize, ObjIntConsumer<long[]> consumer) throws IOException {
+        checkChunkSize(chunkSize);
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            long[] values = JacksonRegistry.reader(objectMapper, long[].class).readValue(parser);
+            return emit(values, null != values ? values.length : 0, consumer);
+        }
+
+        long[] chunk = new long[chunkSize];
+        int size = 0;
+        long count = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            if (JsonToken.VALUE_NUMBER_INT == token) {
+                chunk[size++] = parser.getLongValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, long.class);
+                chunk[size++] = element.<Long>readValue(parser);
+            }
+            if (size == chunkSize) {
+                count += emit(chunk, size, consumer);
+                size = 0;
+            }
+        }
+
+        return count + emit(chunk, size, consumer);
+    }
+
+    static long readDoubles(ObjectMapper objectMapper, JsonParser parser, int chunkSize, ObjIntConsumer<double[]> consumer) throws IOException {
+        checkChunkSize(chunkSize);
+        JsonToken token = parser.nextToken();
+        if (JsonToken.START_ARRAY != token) {
+            double[] values = JacksonRegistry.reader(objectMapper, double[].class).readValue(parser);
+            return emit(values, null != values ? values.length : 0, consumer);
+        }
+
+        double[] chunk = new double[chunkSize];
+        int size = 0;
+        long count = 0;
+        ObjectReader element = null;
+        while (JsonToken.END_ARRAY != (token = parser.nextToken())) {
+            if (JsonToken.VALUE_NUMBER_FLOAT == token || JsonToken.VALUE_NUMBER_INT == token) {
+                chunk[size++] = parser.getDoubleValue();
+            } else {
+                element = elementReader(objectMapper, parser, token, element, double.class);
+                chunk[size++] = element.<Double>readValue(parser);
+            }
+            if (size == chunkSize) {
+                count += emit(chunk, size, consumer);
+                size = 0;
+            }
+        }
+
+        return count + emit(chunk, size, consumer);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ObjectReader elementReader(ObjectMapper objectMapper, JsonParser parser, JsonToken token, ObjectReader reader, Class<?> type)
+            throws IOException {
+        if (null == token) {
+            throw new JsonEOFException(parser, null, "infras: unexpected end-of-input within the json array.");
+        }
+
+        return null != reader ? reader : JacksonRegistry.reader(objectMapper, type);
+    }
+
+    private static <A> int emit(A chunk, int size, ObjIntConsumer<A> consumer) {
+        if (size > 0) {
+            consumer.accept(chunk, size);
+        }
+
+        return size;
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("infras: the chunk size must be positive.");
+        }
+    }
+
+    private static int grow(int size) {
+        if (size >= Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("infras: the json array is too large.");
+        }
+
+        return (int) Math.min((long) size << 1, Integer.MAX_VALUE - 8);
+    }
+}
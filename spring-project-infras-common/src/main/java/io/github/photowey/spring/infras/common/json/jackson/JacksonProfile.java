@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code JacksonProfile}
+ * <p>
+ * A handle of a named {@link ObjectMapper} profile, see {@link Jackson#profile(String)}.
+ * The mapper is resolved on each call, so a handle stays valid across {@link Jackson#clean()}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonProfile {
+
+    private final String name;
+
+    JacksonProfile(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public ObjectMapper objectMapper() {
+        return Jackson.getObjectMapper(this.name);
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> T parseObject(String json, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), json, clazz);
+    }
+
+    public <T> T parseObject(byte[] json, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), json, clazz);
+    }
+
+    public <T> T parseObject(InputStream json, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), json, clazz);
+    }
+
+    public <T> T parseObject(String json, TypeReference<T> typeRef) {
+        return Jackson.parseObject(this.objectMapper(), json, typeRef);
+    }
+
+    public <T> T parseObject(byte[] json, TypeReference<T> typeRef) {
+        return Jackson.parseObject(this.objectMapper(), json, typeRef);
+    }
+
+    public <T> T parseObject(InputStream json, TypeReference<T> typeRef) {
+        return Jackson.parseObject(this.objectMapper(), json, typeRef);
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> List<T> parseList(String json, Class<T> clazz) {
+        return Jackson.parseList(this.objectMapper(), json, clazz);
+    }
+
+    public <T> List<T> parseList(byte[] json, Class<T> clazz) {
+        return Jackson.parseList(this.objectMapper(), json, clazz);
+    }
+
+    public <T> List<T> parseList(InputStream json, Class<T> clazz) {
+        return Jackson.parseList(this.objectMapper(), json, clazz);
+    }
+
+    public <T> Stream<T> streamArray(InputStream json, Class<T> clazz) {
+        return Jackson.streamArray(this.objectMapper(), json, clazz);
+    }
+
+    // ----------------------------------------------------------------
+
+    public <T> String toJSONString(T object) {
+        return Jackson.toJSONString(this.objectMapper(), object, (Class<?>) null);
+    }
+
+    public <T> String toJSONString(T object, Class<?> view) {
+        return Jackson.toJSONString(this.objectMapper(), object, view);
+    }
+
+    public <T> byte[] toBytes(T object) {
+        return Jackson.toBytes(this.objectMapper(), object);
+    }
+
+    public <T> void writeTo(OutputStream output, T object) {
+        Jackson.writeTo(this.objectMapper(), output, object);
+    }
+
+    // ----------------------------------------------------------------
+
+    public JsonNode toJsonNode(String json) {
+        return Jackson.toJsonNode(this.objectMapper(), json);
+    }
+
+    public JsonNode toJsonNode(byte[] json) {
+        return Jackson.toJsonNode(this.objectMapper(), json);
+    }
+
+    public <T> T toObject(Map<String, Object> map, Class<T> targetClass) {
+        return Jackson.toObject(this.objectMapper(), map, targetClass);
+    }
+
+    public <T> Map<String, Object> toMap(T object) {
+        return Jackson.toMap(this.objectMapper(), object);
+    }
+}
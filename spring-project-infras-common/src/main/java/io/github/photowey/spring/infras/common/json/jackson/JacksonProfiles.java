@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.util.Map;
+
+/**
+ * {@code JacksonProfiles}
+ * <p>
+ * The built-in named {@link com.fasterxml.jackson.databind.ObjectMapper} profiles:
+ * <ul>
+ *     <li>{@link #DEFAULT}: comments, single quotes and {@link java.math.BigDecimal} floats.</li>
+ *     <li>{@link #STRICT_FAST}: strict JSON, {@code double} floats and Jackson's fast float parser/writer.</li>
+ *     <li>{@link #LENIENT}: {@link #DEFAULT} plus relaxed syntax and unknown properties are ignored.</li>
+ *     <li>{@link #DEDUP}: {@link #DEFAULT} plus string values canonicalized through {@link JacksonStringPool#shared()}.</li>
+ * </ul>
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonProfiles {
+
+    public static final String DEFAULT = "default";
+    public static final String STRICT_FAST = "strict-fast";
+    public static final String LENIENT = "lenient";
+    public static final String DEDUP = "dedup";
+
+    private JacksonProfiles() {
+        AssertionErrorThrower.throwz(JacksonProfiles.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static boolean isBuiltin(String profile) {
+        return DEFAULT.equals(profile) || STRICT_FAST.equals(profile) || LENIENT.equals(profile) || DEDUP.equals(profile);
+    }
+
+    public static JsonMapper.Builder builder(String profile) {
+        switch (profile) {
+            case DEFAULT:
+                return populateDefault(populateShared(JsonMapper.builder()));
+            case STRICT_FAST:
+                return populateStrictFast(populateShared(JsonMapper.builder()));
+            case LENIENT:
+                return populateLenient(populateDefault(populateShared(JsonMapper.builder())));
+            case DEDUP:
+                return populateDefault(populateShared(JsonMapper.builder())).addModule(JacksonStringPool.shared().module());
+            default:
+                throw new IllegalArgumentException("infras: unknown built-in json profile: " + profile);
+        }
+    }
+
+    /**
+     * Create a builder from a built-in profile, then apply the {@code features} overrides.
+     *
+     * @param base     the built-in profile name
+     * @param features the feature name to state overrides, see {@link #configure(MapperBuilder, String, boolean)}
+     * @return {@link JsonMapper.Builder}
+     */
+    public static JsonMapper.Builder builder(String base, Map<String, Boolean> features) {
+        JsonMapper.Builder builder = builder(base);
+        if (null != features) {
+            for (Map.Entry<String, Boolean> entry : features.entrySet()) {
+                configure(builder, entry.getKey(), Boolean.TRUE.equals(entry.getValue()));
+            }
+        }
+
+        return builder;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The setup shared by every profile and data format: modules, dates, views and inclusion.
+     *
+     * @param builder the mapper builder
+     * @param <B>     the builder type
+     * @return the builder
+     */
+    public static <B extends MapperBuilder<?, B>> B populateShared(B builder) {
+        // @formatter:off
+        return builder
+                .configure(JsonParser.Feature.IGNORE_UNDEFINED, true)
+                .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+
+                // Exclude properties not annotated with @JsonView
+                .configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false)
+                .addModule(new JavaTimeModule())
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+        // @formatter:on
+    }
+
+    private static JsonMapper.Builder populateDefault(JsonMapper.Builder builder) {
+        // @formatter:off
+        return builder
+                .configure(JsonParser.Feature.ALLOW_COMMENTS, true)
+                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
+
+                //.configure(DeserializationFeature.USE_LONG_FOR_INTS, true)
+
+                .configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+        // @formatter:on
+    }
+
+    private static JsonMapper.Builder populateStrictFast(JsonMapper.Builder builder) {
+        // @formatter:off
+        return builder
+                .configure(JsonParser.Feature.ALLOW_COMMENTS, false)
+                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, false)
+                .configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, false)
+                .configure(StreamReadFeature.USE_FAST_DOUBLE_PARSER, true)
+                .configure(StreamWriteFeature.USE_FAST_DOUBLE_WRITER, true);
+        // @formatter:on
+    }
+
+    private static JsonMapper.Builder populateLenient(JsonMapper.Builder builder) {
+        // @formatter:off
+        return builder
+                .configure(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES, true)
+                .configure(JsonReadFeature.ALLOW_TRAILING_COMMA, true)
+                .configure(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS, true)
+                .configure(JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS, true)
+                .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS, true)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
+                .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
+                .configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true)
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true);
+        // @formatter:on
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Configure a feature by its enum constant name.
+     * <p>
+     * The name is resolved against {@link SerializationFeature}, {@link DeserializationFeature}, {@link MapperFeature},
+     * {@link JsonReadFeature}, {@link JsonWriteFeature}, {@link StreamReadFeature}, {@link StreamWriteFeature},
+     * {@link JsonParser.Feature} and {@link JsonGenerator.Feature}, in that order.
+     *
+     * @param builder the mapper builder
+     * @param feature the feature name, such as {@code FAIL_ON_UNKNOWN_PROPERTIES}
+     * @param state   {@code true} to enable
+     */
+    public static void configure(MapperBuilder<?, ?> builder, String feature, boolean state) {
+        String name = feature.trim().toUpperCase().replace('-', '_');
+
+        SerializationFeature serialization = lookup(SerializationFeature.class, name);
+        if (null != serialization) {
+            builder.configure(serialization, state);
+            return;
+        }
+        DeserializationFeature deserialization = lookup(DeserializationFeature.class, name);
+        if (null != deserialization) {
+            builder.configure(deserialization, state);
+            return;
+        }
+        MapperFeature mapper = lookup(MapperFeature.class, name);
+        if (null != mapper) {
+            builder.configure(mapper, state);
+            return;
+        }
+        if (builder instanceof JsonMapper.Builder) {
+            JsonReadFeature read = lookup(JsonReadFeature.class, name);
+            if (null != read) {
+                ((JsonMapper.Builder) builder).configure(read, state);
+                return;
+            }
+            JsonWriteFeature write = lookup(JsonWriteFeature.class, name);
+            if (null != write) {
+                ((JsonMapper.Builder) builder).configure(write, state);
+                return;
+            }
+        }
+        StreamReadFeature streamRead = lookup(StreamReadFeature.class, name);
+        if (null != streamRead) {
+            builder.configure(streamRead, state);
+            return;
+        }
+        StreamWriteFeature streamWrite = lookup(StreamWriteFeature.class, name);
+        if (null != streamWrite) {
+            builder.configure(streamWrite, state);
+            return;
+        }
+        JsonParser.Feature parser = lookup(JsonParser.Feature.class, name);
+        if (null != parser) {
+            builder.configure(parser, state);
+            return;
+        }
+        JsonGenerator.Feature generator = lookup(JsonGenerator.Feature.class, name);
+        if (null != generator) {
+            builder.configure(generator, state);
+            return;
+        }
+
+        throw new IllegalArgumentException("infras: unknown jackson feature: " + feature);
+    }
+
+    private static <E extends Enum<E>> E lookup(Class<E> enumType, String name) {
+        for (E constant : enumType.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.cfg.ConfigFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@code JacksonRegistry}
+ * <p>
+ * A bounded, concurrent registry of prebuilt {@link ObjectReader}s and {@link ObjectWriter}s,
+ * keyed by (mapper, target type, view, feature set).
+ * <p>
+ * Readers and writers snapshot the mapper configuration at creation time,
+ * so the registry must be invalidated (see {@link #clean()}) whenever the mapper is replaced or reconfigured;
+ * {@link Jackson#injectSharedObjectMapper(ObjectMapper)} and {@link Jackson#clean()} already do so.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonRegistry {
+
+    public static final int DEFAULT_MAX_SIZE = 1 << 10;
+
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private static final ConcurrentHashMap<Key, ObjectReader> readers = new ConcurrentHashMap<>(64);
+    private static final ConcurrentHashMap<Key, ObjectWriter> writers = new ConcurrentHashMap<>(16);
+
+    private JacksonRegistry() {
+        AssertionErrorThrower.throwz(JacksonRegistry.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ObjectReader reader(ObjectMapper objectMapper, Type type) {
+        return reader(objectMapper, type, null, 0);
+    }
+
+    public static ObjectReader reader(ObjectMapper objectMapper, TypeReference<?> typeRef) {
+        return reader(objectMapper, typeRef.getType(), null, 0);
+    }
+
+    public static ObjectReader reader(ObjectMapper objectMapper, Type type, Class<?> view) {
+        return reader(objectMapper, type, view, 0);
+    }
+
+    public static ObjectReader reader(ObjectMapper objectMapper, Type type, Class<?> view, DeserializationFeature... features) {
+        return reader(objectMapper, type, view, mask(features));
+    }
+
+    private static ObjectReader reader(ObjectMapper objectMapper, Type type, Class<?> view, int features) {
+        Key key = new Key(objectMapper, type, null, view, features);
+
+        return lookup(readers, key, (x) -> {
+            JavaType javaType = objectMapper.getTypeFactory().constructType(type);
+            return populateReader(objectMapper.readerFor(javaType), view, features);
+        });
+    }
+
+    /**
+     * Get a reader for the collection type {@code container<element>}.
+     *
+     * @param objectMapper the {@link ObjectMapper}
+     * @param container    the collection class, such as {@link java.util.List}
+     * @param element      the element class
+     * @return {@link ObjectReader}
+     */
+    @SuppressWarnings("rawtypes")
+    public static ObjectReader collectionReader(ObjectMapper objectMapper, Class<? extends Collection> container, Class<?> element) {
+        return collectionReader(objectMapper, container, element, null, 0);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static ObjectReader collectionReader(ObjectMapper objectMapper, Class<? extends Collection> container, Class<?> element, Class<?> view, DeserializationFeature... features) {
+        return collectionReader(objectMapper, container, element, view, mask(features));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static ObjectReader collectionReader(ObjectMapper objectMapper, Class<? extends Collection> container, Class<?> element, Class<?> view, int features) {
+        Key key = new Key(objectMapper, element, container, view, features);
+
+        return lookup(readers, key, (x) -> {
+            TypeFactory typeFactory = objectMapper.getTypeFactory();
+            JavaType javaType = typeFactory.constructCollectionType(container, element);
+            return populateReader(objectMapper.readerFor(javaType), view, features);
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ObjectWriter writer(ObjectMapper objectMapper) {
+        return writer(objectMapper, null, 0);
+    }
+
+    public static ObjectWriter writer(ObjectMapper objectMapper, Class<?> view) {
+        return writer(objectMapper, view, 0);
+    }
+
+    public static ObjectWriter writer(ObjectMapper objectMapper, Class<?> view, SerializationFeature... features) {
+        return writer(objectMapper, view, mask(features));
+    }
+
+    private static ObjectWriter writer(ObjectMapper objectMapper, Class<?> view, int features) {
+        Key key = new Key(objectMapper, null, null, view, features);
+
+        return lookup(writers, key, (x) -> {
+            ObjectWriter writer = null != view ? objectMapper.writerWithView(view) : objectMapper.writer();
+            for (SerializationFeature feature : SerializationFeature.values()) {
+                if (feature.enabledIn(features)) {
+                    writer = writer.with(feature);
+                }
+            }
+
+            return writer;
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    public static void maxSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("infras: the registry max size must be positive.");
+        }
+        maxSize = size;
+    }
+
+    public static int maxSize() {
+        return maxSize;
+    }
+
+    public static int size() {
+        return readers.size() + writers.size();
+    }
+
+    public static void clean() {
+        readers.clear();
+        writers.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ObjectReader populateReader(ObjectReader reader, Class<?> view, int features) {
+        if (null != view) {
+            reader = reader.withView(view);
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            if (feature.enabledIn(features)) {
+                reader = reader.with(feature);
+            }
+        }
+
+        return reader;
+    }
+
+    private static <V> V lookup(ConcurrentHashMap<Key, V> cache, Key key, Function<Key, V> fx) {
+        V value = cache.get(key);
+        if (null != value) {
+            return value;
+        }
+
+        // Cheap bounding: drop an arbitrary entry instead of maintaining an access order.
+        if (cache.size() >= maxSize) {
+            Iterator<Key> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        return cache.computeIfAbsent(key, fx);
+    }
+
+    private static int mask(ConfigFeature... features) {
+        int mask = 0;
+        if (null != features) {
+            for (ConfigFeature feature : features) {
+                mask |= feature.getMask();
+            }
+        }
+
+        return mask;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Key {
+
+        private final ObjectMapper objectMapper;
+        private final Type type;
+        private final Class<?> container;
+        private final Class<?> view;
+        private final int features;
+        private final int hash;
+
+        Key(ObjectMapper objectMapper, Type type, Class<?> container, Class<?> view, int features) {
+            this.objectMapper = objectMapper;
+            this.type = type;
+            this.container = container;
+            this.view = view;
+            this.features = features;
+
+            int h = System.identityHashCode(objectMapper);
+            h = 31 * h + Objects.hashCode(type);
+            h = 31 * h + Objects.hashCode(container);
+            h = 31 * h + Objects.hashCode(view);
+            this.hash = 31 * h + features;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+
+            return this.objectMapper == that.objectMapper
+                    && this.features == that.features
+                    && this.container == that.container
+                    && this.view == that.view
+                    && Objects.equals(this.type, that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code JacksonStringPool}
+ * <p>
+ * A bounded, lock-free canonicalization pool for string values: equal strings decoded through {@link #module()}
+ * share one instance, resolved straight from the parser's char buffer, so a hit allocates nothing.
+ * <p>
+ * The pool is a fixed-size, lossy table (two slots per hash, last writer wins),
+ * its memory is bounded by {@code capacity * maxLength} chars whatever the input.
+ * Strings longer than {@code maxLength} bypass the pool.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonStringPool {
+
+    public static final int DEFAULT_CAPACITY = 1 << 12;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final JacksonStringPool SHARED = new JacksonStringPool();
+
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    public JacksonStringPool() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param capacity  the slot count, rounded up to a power of two
+     * @param maxLength the longest string to canonicalize
+     */
+    public JacksonStringPool(int capacity, int maxLength) {
+        if (capacity <= 0 || maxLength <= 0) {
+            throw new IllegalArgumentException("infras: the string pool capacity and max length must be positive.");
+        }
+        int size = capacity > (1 << 30) ? 1 << 30 : Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * The pool behind the {@link JacksonProfiles#DEDUP} profile.
+     */
+    public static JacksonStringPool shared() {
+        return SHARED;
+    }
+
+    // ----------------------------------------------------------------
+
+    public String intern(char[] chars, int offset, int length) {
+        if (length > this.maxLength) {
+            this.bypassed.increment();
+            return new String(chars, offset, length);
+        }
+
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[offset + i];
+        }
+
+        int index = spread(hash) & this.mask;
+        String hit = this.match(index, hash, chars, offset, length);
+        if (null == hit) {
+            hit = this.match(index ^ 1, hash, chars, offset, length);
+        }
+        if (null != hit) {
+            this.hits.increment();
+            return hit;
+        }
+
+        return this.store(index, new String(chars, offset, length));
+    }
+
+    public String intern(String value) {
+        if (null == value) {
+            return null;
+        }
+        if (value.length() > this.maxLength) {
+            this.bypassed.increment();
+            return value;
+        }
+
+        int index = spread(value.hashCode()) & this.mask;
+        for (int probe = 0; probe < 2; probe++) {
+            String candidate = this.table.get(index ^ probe);
+            if (value.equals(candidate)) {
+                this.hits.increment();
+                return candidate;
+            }
+        }
+
+        return this.store(index, value);
+    }
+
+    /**
+     * A module that decodes every {@link String} value through this pool, field names are already canonicalized by Jackson.
+     *
+     * @return {@link Module}
+     */
+    public Module module() {
+        SimpleModule module = new SimpleModule("infras-string-pool");
+        module.addDeserializer(String.class, new PooledStringDeserializer(this));
+
+        return module;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.bypassed.sum());
+    }
+
+    public int capacity() {
+        return this.table.length();
+    }
+
+    /**
+     * Drop the pooled strings and reset the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < this.table.length(); i++) {
+            this.table.set(i, null);
+        }
+        this.hits.reset();
+        this.misses.reset();
+        this.bypassed.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    private String match(int index, int hash, char[] chars, int offset, int length) {
+        String candidate = this.table.get(index);
+        if (null == candidate || candidate.length() != length || candidate.hashCode() != hash) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars[offset + i]) {
+                return null;
+            }
+        }
+
+        return candidate;
+    }
+
+    private String store(int index, String value) {
+        this.misses.increment();
+        // Prefer an empty slot of the pair, otherwise evict the primary one.
+        if (null == this.table.get(index) || null != this.table.get(index ^ 1)) {
+            this.table.lazySet(index, value);
+        } else {
+            this.table.lazySet(index ^ 1, value);
+        }
+
+        return value;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A point-in-time snapshot of the pool counters.
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long bypassed;
+
+        Stats(long hits, long misses, long bypassed) {
+            this.hits = hits;
+            this.misses = misses;
+            this.bypassed = bypassed;
+        }
+
+        public long hits() {
+            return this.hits;
+        }
+
+        public long misses() {
+            return this.misses;
+        }
+
+        /**
+         * The strings longer than the max length, never pooled.
+         */
+        public long bypassed() {
+            return this.bypassed;
+        }
+
+        public double hitRate() {
+            long total = this.hits + this.misses + this.bypassed;
+
+            return 0 == total ? 0D : (double) this.hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("infras: jackson string pool hits: %d, misses: %d, bypassed: %d, hit rate: %.2f%%",
+                    this.hits, this.misses, this.bypassed, this.hitRate() * 100D);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+        private static final long serialVersionUID = -2024826158412876105L;
+
+        private final transient JacksonStringPool pool;
+
+        PooledStringDeserializer(JacksonStringPool pool) {
+            super(String.class);
+            this.pool = pool;
+        }
+
+        @Override
+        public LogicalType logicalType() {
+            return LogicalType.Textual;
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return "";
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                if (parser.hasTextCharacters()) {
+                    return this.pool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                }
+
+                return this.pool.intern(parser.getText());
+            }
+
+            // Coercions (numbers, booleans, embedded objects, arrays) keep the standard semantics.
+            return this.pool.intern(StringDeserializer.instance.deserialize(parser, ctxt));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code JacksonTransformRules}
+ * <p>
+ * The rules of a streaming transform, see {@link Jackson#transform(java.io.InputStream, java.io.OutputStream, JacksonTransformRules)}.
+ * Paths are JSON Pointers where a {@code *} segment matches any member or element:
+ * <pre>
+ * JacksonTransformRules rules = JacksonTransformRules.builder()
+ *         .include("/id", "/user", "/items/*&#47;sku")
+ *         .exclude("/user/password")
+ *         .rename("/user/name", "username")
+ *         .pretty()
+ *         .build();
+ * </pre>
+ * <ul>
+ *     <li>include: when present, only the included subtrees (and the containers on their way) are written.</li>
+ *     <li>exclude: the subtree is dropped, it wins over include.</li>
+ *     <li>rename: the member name is replaced.</li>
+ * </ul>
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonTransformRules {
+
+    static final String WILDCARD = "*";
+
+    private static final JacksonTransformRules PRETTY = builder().pretty().build();
+    private static final JacksonTransformRules COMPACT = builder().build();
+
+    private final Node root;
+    private final boolean filtered;
+    private final boolean pretty;
+
+    private JacksonTransformRules(Builder builder) {
+        // A private copy: changing the builder afterwards must not change the published rules.
+        this.root = builder.root.copy();
+        this.filtered = builder.filtered;
+        this.pretty = builder.pretty;
+    }
+
+    /**
+     * Reformat only, with the default pretty printer.
+     */
+    public static JacksonTransformRules pretty() {
+        return PRETTY;
+    }
+
+    /**
+     * Reformat only, without any whitespace.
+     */
+    public static JacksonTransformRules compact() {
+        return COMPACT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ----------------------------------------------------------------
+
+    Node root() {
+        return this.root;
+    }
+
+    /**
+     * @return {@code true} if any include path is present
+     */
+    boolean filtered() {
+        return this.filtered;
+    }
+
+    boolean isPretty() {
+        return this.pretty;
+    }
+
+    // ----------------------------------------------------------------
+
+    static final class Node {
+
+        final Map<String, Node> children = new HashMap<>(4);
+        boolean include;
+        boolean exclude;
+        String rename;
+
+        Node child(String segment) {
+            return this.children.get(segment);
+        }
+
+        Node copy() {
+            Node copy = new Node();
+            copy.include = this.include;
+            copy.exclude = this.exclude;
+            copy.rename = this.rename;
+            for (Map.Entry<String, Node> entry : this.children.entrySet()) {
+                copy.children.put(entry.getKey(), entry.getValue().copy());
+            }
+
+            return copy;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+        private boolean filtered;
+        private boolean pretty;
+
+        private Builder() {
+        }
+
+        public Builder include(String... paths) {
+            for (String path : paths) {
+                this.node(path).include = true;
+                this.filtered = true;
+            }
+
+            return this;
+        }
+
+        public Builder exclude(String... paths) {
+            for (String path : paths) {
+                this.node(path).exclude = true;
+            }
+
+            return this;
+        }
+
+        public Builder rename(String path, String name) {
+            this.node(path).rename = name;
+
+            return this;
+        }
+
+        public Builder pretty() {
+            this.pretty = true;
+
+            return this;
+        }
+
+        public Builder compact() {
+            this.pretty = false;
+
+            return this;
+        }
+
+        public JacksonTransformRules build() {
+            return new JacksonTransformRules(this);
+        }
+
+        private Node node(String path) {
+            Node node = this.root;
+            for (JsonPointer pointer = JsonPointer.compile(path); !pointer.matches(); pointer = pointer.tail()) {
+                node = node.children.computeIfAbsent(pointer.getMatchingProperty(), (x) -> new Node());
+            }
+
+            return node;
+        }
+    }
+}
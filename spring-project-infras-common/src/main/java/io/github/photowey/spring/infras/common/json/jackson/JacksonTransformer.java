@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code JacksonTransformer}
+ * <p>
+ * Copies tokens from a parser to a generator and applies {@link JacksonTransformRules} on the fly.
+ * Nothing is bound or buffered: memory is bounded by the nesting depth, not the document size.
+ * Numbers are copied as written, so no precision is lost on the way through.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+final class JacksonTransformer {
+
+    private JacksonTransformer() {
+        AssertionErrorThrower.throwz(JacksonTransformer.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    static void transform(JsonParser parser, JsonGenerator generator, JacksonTransformRules rules) throws IOException {
+        List<JacksonTransformRules.Node> roots = Collections.singletonList(rules.root());
+        boolean included = !rules.filtered() || rules.root().include;
+        while (null != parser.nextToken()) {
+            copy(parser, generator, roots, included);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Copy the current value, its member name (if any) is already written.
+     */
+    private static void copy(JsonParser parser, JsonGenerator generator, List<JacksonTransformRules.Node> active, boolean included)
+            throws IOException {
+        if (active.isEmpty()) {
+            copyStructure(parser, generator);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (JsonToken.START_OBJECT == token) {
+            generator.writeStartObject();
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                String name = parser.currentName();
+                parser.nextToken();
+                member(parser, generator, active, included, name, true);
+            }
+            generator.writeEndObject();
+        } else if (JsonToken.START_ARRAY == token) {
+            generator.writeStartArray();
+            int index = 0;
+            while (JsonToken.END_ARRAY != parser.nextToken()) {
+                member(parser, generator, active, included, String.valueOf(index++), false);
+            }
+            generator.writeEndArray();
+        } else {
+            copyScalar(parser, generator, token);
+        }
+    }
+
+    private static void member(JsonParser parser, JsonGenerator generator,
+                               List<JacksonTransformRules.Node> active, boolean included, String segment, boolean field) throws IOException {
+        List<JacksonTransformRules.Node> next = match(active, segment);
+
+        boolean include = included;
+        String rename = null;
+        for (JacksonTransformRules.Node node : next) {
+            if (node.exclude) {
+                parser.skipChildren();
+                return;
+            }
+            include |= node.include;
+            if (null == rename) {
+                rename = node.rename;
+            }
+        }
+
+        // Off every include path, or a partial include path that ends at a scalar.
+        if (!include && (next.isEmpty() || parser.currentToken().isScalarValue())) {
+            parser.skipChildren();
+            return;
+        }
+
+        if (field) {
+            generator.writeFieldName(null != rename ? rename : segment);
+        }
+        copy(parser, generator, next, include);
+    }
+
+    private static List<JacksonTransformRules.Node> match(List<JacksonTransformRules.Node> active, String segment) {
+        List<JacksonTransformRules.Node> next = null;
+        for (JacksonTransformRules.Node node : active) {
+            JacksonTransformRules.Node exact = node.child(segment);
+            JacksonTransformRules.Node wildcard = node.child(JacksonTransformRules.WILDCARD);
+            if (null == exact && null == wildcard) {
+                continue;
+            }
+            if (null == next) {
+                next = new ArrayList<>(2);
+            }
+            if (null != exact) {
+                next.add(exact);
+            }
+            if (null != wildcard && wildcard != exact) {
+                next.add(wildcard);
+            }
+        }
+
+        return null != next ? next : Collections.emptyList();
+    }
+
+    /**
+     * Copy the current value as is, iteratively.
+     */
+    private static void copyStructure(JsonParser parser, JsonGenerator generator) throws IOException {
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            switch (token) {
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    generator.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    generator.writeEndArray();
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    generator.writeFieldName(parser.currentName());
+                    break;
+                default:
+                    copyScalar(parser, generator, token);
+                    break;
+            }
+            if (0 == depth) {
+                return;
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    private static void copyScalar(JsonParser parser, JsonGenerator generator, JsonToken token) throws IOException {
+        if (JsonToken.VALUE_NUMBER_INT == token || JsonToken.VALUE_NUMBER_FLOAT == token) {
+            generator.writeNumber(parser.getText());
+            return;
+        }
+
+        generator.copyCurrentEvent(parser);
+    }
+}
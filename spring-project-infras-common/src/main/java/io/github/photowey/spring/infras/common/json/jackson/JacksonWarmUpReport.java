@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code JacksonWarmUpReport}
+ * <p>
+ * The outcome of a {@link JacksonWarmer} run.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonWarmUpReport {
+
+    private final List<Class<?>> warmed;
+    private final Map<Class<?>, Throwable> failed;
+    private final List<Class<?>> skipped;
+    private final long elapsedMillis;
+
+    JacksonWarmUpReport(List<Class<?>> warmed, Map<Class<?>, Throwable> failed, List<Class<?>> skipped, long elapsedMillis) {
+        this.warmed = Collections.unmodifiableList(warmed);
+        this.failed = Collections.unmodifiableMap(failed);
+        this.skipped = Collections.unmodifiableList(skipped);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * The types whose serializer and deserializer were resolved.
+     */
+    public List<Class<?>> warmed() {
+        return this.warmed;
+    }
+
+    /**
+     * The types Jackson cannot handle, with the resolution failure.
+     */
+    public Map<Class<?>, Throwable> failed() {
+        return this.failed;
+    }
+
+    /**
+     * The types left out once the time budget ran out.
+     */
+    public List<Class<?>> skipped() {
+        return this.skipped;
+    }
+
+    public long elapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("infras: jackson warm-up warmed: %d, failed: %d, skipped: %d, elapsed: %d ms",
+                this.warmed.size(), this.failed.size(), this.skipped.size(), this.elapsedMillis);
+    }
+}
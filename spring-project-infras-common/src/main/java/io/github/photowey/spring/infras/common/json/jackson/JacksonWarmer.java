@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.thrower.AssertionErrorThrower;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code JacksonWarmer}
+ * <p>
+ * Pre-resolves the serializers and deserializers of the given types, so the first request of each type
+ * does not pay Jackson's introspection and (de)serializer construction cost.
+ * The resolved (de)serializers land in the caches of the {@link ObjectMapper} itself,
+ * and the root readers in {@link JacksonRegistry}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JacksonWarmer {
+
+    private JacksonWarmer() {
+        AssertionErrorThrower.throwz(JacksonWarmer.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Warm up the given types on the calling thread.
+     *
+     * @param objectMapper  the mapper to warm
+     * @param types         the types
+     * @param budgetMillis  the time budget, the remaining types are skipped once exceeded; {@code <= 0} means no limit
+     * @return {@link JacksonWarmUpReport}
+     */
+    public static JacksonWarmUpReport warmUp(ObjectMapper objectMapper, Collection<? extends Class<?>> types, long budgetMillis) {
+        long start = System.nanoTime();
+        long deadline = budgetMillis > 0 ? start + TimeUnit.MILLISECONDS.toNanos(budgetMillis) : Long.MAX_VALUE;
+
+        List<Class<?>> warmed = new ArrayList<>(types.size());
+        Map<Class<?>, Throwable> failed = new LinkedHashMap<>();
+        List<Class<?>> skipped = new ArrayList<>();
+
+        for (Class<?> type : types) {
+            if (System.nanoTime() - deadline > 0) {
+                skipped.add(type);
+                continue;
+            }
+
+            Throwable cause = warmUp(objectMapper, type);
+            if (null == cause) {
+                warmed.add(type);
+            } else {
+                failed.put(type, cause);
+            }
+        }
+
+        return new JacksonWarmUpReport(warmed, failed, skipped, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Warm up the given types on the {@code executor}.
+     *
+     * @param objectMapper the mapper to warm
+     * @param types        the types
+     * @param budgetMillis the time budget, see {@link #warmUp(ObjectMapper, Collection, long)}
+     * @param executor     the background executor
+     * @return the report future
+     */
+    public static CompletableFuture<JacksonWarmUpReport> warmUpAsync(
+            ObjectMapper objectMapper, Collection<? extends Class<?>> types, long budgetMillis, Executor executor) {
+        List<Class<?>> snapshot = new ArrayList<>(types);
+
+        return CompletableFuture.supplyAsync(() -> warmUp(objectMapper, snapshot, budgetMillis), executor);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Throwable warmUp(ObjectMapper objectMapper, Class<?> type) {
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        try {
+            // canSerialize/canDeserialize construct and cache the (de)serializer, and capture the failure.
+            if (!objectMapper.canSerialize(type, cause)) {
+                return orElse(cause.get(), type, "serializer");
+            }
+            JavaType javaType = objectMapper.constructType(type);
+            if (!objectMapper.canDeserialize(javaType, cause)) {
+                return orElse(cause.get(), type, "deserializer");
+            }
+            JacksonRegistry.reader(objectMapper, type);
+
+            return null;
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+
+    private static Throwable orElse(Throwable cause, Class<?> type, String kind) {
+        return null != cause ? cause : new IllegalStateException("infras: no " + kind + " for type: " + type.getName());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * {@code ByteBufferPool}
+ * <p>
+ * A bounded pool of equally sized {@link ByteBuffer}s.
+ * <p>
+ * Unlike thread-local recycling, buffers are not bound to the borrowing thread,
+ * so short-lived (e.g. virtual) threads reuse them just as well as pooled platform threads.
+ * The backing queue is array based, so neither {@link #acquire()} nor {@link #release(ByteBuffer)} allocates.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class ByteBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 13;
+
+    private final ArrayBlockingQueue<ByteBuffer> buffers;
+    private final int bufferSize;
+    private final boolean direct;
+
+    public ByteBufferPool(int capacity, int bufferSize, boolean direct) {
+        if (capacity <= 0 || bufferSize <= 0) {
+            throw new IllegalArgumentException("infras: the pool capacity and buffer size must be positive.");
+        }
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+    }
+
+    /**
+     * Borrow a cleared buffer, allocating a new one if the pool is empty.
+     *
+     * @return {@link ByteBuffer}
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = this.buffers.poll();
+        if (null == buffer) {
+            return this.direct ? ByteBuffer.allocateDirect(this.bufferSize) : ByteBuffer.allocate(this.bufferSize);
+        }
+        ((Buffer) buffer).clear();
+
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool, it is dropped if the pool is full.
+     *
+     * @param buffer the borrowed buffer
+     */
+    public void release(ByteBuffer buffer) {
+        if (null != buffer && buffer.capacity() == this.bufferSize && buffer.isDirect() == this.direct) {
+            this.buffers.offer(buffer);
+        }
+    }
+
+    public int bufferSize() {
+        return this.bufferSize;
+    }
+
+    public int available() {
+        return this.buffers.size();
+    }
+}
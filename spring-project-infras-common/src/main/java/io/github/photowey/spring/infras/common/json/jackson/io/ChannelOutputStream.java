@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@code ChannelOutputStream}
+ * <p>
+ * Stages bytes in a buffer borrowed from a {@link ByteBufferPool} and drains it into a {@link WritableByteChannel}.
+ * {@link #close()} flushes and returns the buffer to the pool, the channel itself is left open.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class ChannelOutputStream extends OutputStream {
+
+    private final WritableByteChannel channel;
+    private final ByteBufferPool pool;
+
+    private ByteBuffer buffer;
+
+    public ChannelOutputStream(WritableByteChannel channel, ByteBufferPool pool) {
+        this.channel = channel;
+        this.pool = pool;
+        this.buffer = pool.acquire();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.ensureOpen();
+        if (!this.buffer.hasRemaining()) {
+            this.drain();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        this.ensureOpen();
+        while (len > 0) {
+            if (!this.buffer.hasRemaining()) {
+                this.drain();
+            }
+            int n = Math.min(len, this.buffer.remaining());
+            this.buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (null == this.buffer) {
+            return;
+        }
+        try {
+            this.drain();
+        } finally {
+            this.pool.release(this.buffer);
+            this.buffer = null;
+        }
+    }
+
+    private void drain() throws IOException {
+        ((Buffer) this.buffer).flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        ((Buffer) this.buffer).clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (null == this.buffer) {
+            throw new IOException("infras: the stream is closed.");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson.io;
+
+import java.io.Reader;
+
+/**
+ * {@code CharSequenceReader}
+ * <p>
+ * Reads straight from a {@link CharSequence} ({@link StringBuilder}, {@link java.nio.CharBuffer}, ...) without copying it into a {@link String}.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class CharSequenceReader extends Reader {
+
+    private final CharSequence chars;
+    private final int length;
+    private int position;
+
+    public CharSequenceReader(CharSequence chars) {
+        this.chars = chars;
+        this.length = chars.length();
+    }
+
+    @Override
+    public int read() {
+        return this.position < this.length ? this.chars.charAt(this.position++) : -1;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (0 == len) {
+            return 0;
+        }
+        if (this.position >= this.length) {
+            return -1;
+        }
+        int n = Math.min(len, this.length - this.position);
+        if (this.chars instanceof String) {
+            ((String) this.chars).getChars(this.position, this.position + n, cbuf, off);
+        } else if (this.chars instanceof StringBuilder) {
+            ((StringBuilder) this.chars).getChars(this.position, this.position + n, cbuf, off);
+        } else {
+            for (int i = 0; i < n; i++) {
+                cbuf[off + i] = this.chars.charAt(this.position + i);
+            }
+        }
+        this.position += n;
+
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.max(0, Math.min(n, this.length - this.position));
+        this.position += skipped;
+
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
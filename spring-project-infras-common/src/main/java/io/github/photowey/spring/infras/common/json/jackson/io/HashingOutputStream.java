@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson.io;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * {@code HashingOutputStream}
+ * <p>
+ * Feeds every written byte into a {@link MessageDigest} and keeps nothing, so hashing a serialized value takes constant memory.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class HashingOutputStream extends OutputStream {
+
+    private final MessageDigest digest;
+
+    public HashingOutputStream(MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    @Override
+    public void write(int b) {
+        this.digest.update((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        this.digest.update(b, off, len);
+    }
+
+    /**
+     * Complete the hash, see {@link MessageDigest#digest()}.
+     *
+     * @return the digest bytes
+     */
+    public byte[] digest() {
+        return this.digest.digest();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code MappedFileInputStream}
+ * <p>
+ * Reads a {@link FileChannel} through read-only memory-mapped windows, so bytes are copied straight from the page cache
+ * instead of going through a {@code read(2)} per buffer fill. Files larger than one window (2 GB at most, a mapping limit)
+ * are mapped window by window, only the current window is referenced.
+ * <p>
+ * {@link #close()} closes the channel only if the stream opened it, see {@link #open(Path)}.
+ * The mappings themselves are released by the GC, there is no portable unmap on Java 8.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public class MappedFileInputStream extends InputStream {
+
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long limit;
+    private final int windowSize;
+
+    private long windowStart;
+    private MappedByteBuffer window;
+    private long mark = -1;
+    private boolean closed;
+
+    /**
+     * Map {@code channel} from its current position to its end, the channel is left open on {@link #close()}.
+     *
+     * @param channel the file channel
+     * @throws IOException if the channel can't be read
+     */
+    public MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, channel.position(), channel.size(), DEFAULT_WINDOW_SIZE, false);
+    }
+
+    public MappedFileInputStream(FileChannel channel, long position, long limit, int windowSize, boolean ownsChannel) {
+        if (position < 0 || limit < position || windowSize <= 0) {
+            throw new IllegalArgumentException("infras: invalid mapped range or window size.");
+        }
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.limit = limit;
+        this.windowSize = windowSize;
+        this.windowStart = position;
+    }
+
+    public static MappedFileInputStream open(Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public static MappedFileInputStream open(Path path, int windowSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFileInputStream(channel, 0L, channel.size(), windowSize, true);
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public int read() throws IOException {
+        if (!this.ensureWindow()) {
+            return -1;
+        }
+
+        return this.window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.ensureWindow()) {
+            return -1;
+        }
+
+        int n = Math.min(len, this.window.remaining());
+        this.window.get(b, off, n);
+
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        this.ensureOpen();
+        long skipped = Math.max(0L, Math.min(n, this.limit - this.position()));
+        this.seek(this.position() + skipped);
+
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        this.ensureOpen();
+
+        return (int) Math.min(Integer.MAX_VALUE, this.limit - this.position());
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        this.mark = this.position();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        this.ensureOpen();
+        if (this.mark < 0) {
+            throw new IOException("infras: the stream is not marked.");
+        }
+        this.seek(this.mark);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.window = null;
+        if (this.ownsChannel) {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * The absolute file position of the next byte.
+     */
+    public long position() {
+        return null == this.window ? this.windowStart : this.windowStart + this.window.position();
+    }
+
+    // ----------------------------------------------------------------
+
+    private boolean ensureWindow() throws IOException {
+        this.ensureOpen();
+        if (null != this.window && this.window.hasRemaining()) {
+            return true;
+        }
+
+        long start = this.position();
+        if (start >= this.limit) {
+            return false;
+        }
+        this.windowStart = start;
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(this.windowSize, this.limit - start));
+
+        return true;
+    }
+
+    private void seek(long position) {
+        if (null != this.window && position >= this.windowStart && position <= this.windowStart + this.window.limit()) {
+            ((Buffer) this.window).position((int) (position - this.windowStart));
+            return;
+        }
+        this.window = null;
+        this.windowStart = position;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("infras: the stream is closed.");
+        }
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.tape;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonRegistry;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@code JsonDocument}
+ * <p>
+ * A lazy, read-only view over raw JSON bytes.
+ * The bytes are indexed once into a compact {@code int[]} tape that holds, for every value,
+ * its kind, its byte range and the tape position of its next sibling; nothing is decoded until it is accessed.
+ * <p>
+ * Values are addressed by {@code int} node handles, {@link #root()} is the top-level value,
+ * and the lookups return {@link #MISSING} for an absent path:
+ * <pre>
+ * JsonDocument document = JsonDocument.of(bytes);
+ * String tenant = document.getText(document.at("/tenant/id"));
+ * long amount = document.getLong(document.get(document.root(), "amount"));
+ * </pre>
+ * Precompile hot paths with {@link JsonPointer#compile(String)} and use {@link #at(JsonPointer)}.
+ * <p>
+ * The document keeps a reference to the bytes, which must not be modified afterwards. It is safe for concurrent reads.
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+public final class JsonDocument {
+
+    public static final int MISSING = -1;
+
+    public enum Type {
+        OBJECT,
+        ARRAY,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        /**
+         * The type of {@link #MISSING}.
+         */
+        MISSING,
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The tape entry layout: {@code [kind, start, end, next]}, {@code end} is exclusive and
+     * {@code next} is the node of the following sibling.
+     */
+    private static final int STRIDE = 4;
+    private static final int KIND = 0;
+    private static final int START = 1;
+    private static final int END = 2;
+    private static final int NEXT = 3;
+
+    private static final int K_OBJECT = 1;
+    private static final int K_ARRAY = 2;
+    private static final int K_STRING = 3;
+    private static final int K_ESCAPED_STRING = 4;
+    private static final int K_NUMBER = 5;
+    private static final int K_TRUE = 6;
+    private static final int K_FALSE = 7;
+    private static final int K_NULL = 8;
+
+    private final byte[] json;
+    private final int[] tape;
+    private final int nodes;
+
+    private JsonDocument(byte[] json, int[] tape, int nodes) {
+        this.json = json;
+        this.tape = tape;
+        this.nodes = nodes;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static JsonDocument of(byte[] json) {
+        return of(json, 0, json.length);
+    }
+
+    /**
+     * Index a JSON value.
+     *
+     * @param json   the json bytes, UTF-8
+     * @param offset the offset of the value
+     * @param length the length of the value
+     * @return {@link JsonDocument}
+     * @throws IllegalArgumentException if the bytes are not a well-formed JSON value
+     */
+    public static JsonDocument of(byte[] json, int offset, int length) {
+        Indexer indexer = new Indexer(json, offset, offset + length);
+        indexer.index();
+
+        return new JsonDocument(json, indexer.tape, indexer.size);
+    }
+
+    // ----------------------------------------------------------------
+
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * The number of indexed values, including the object keys.
+     */
+    public int nodes() {
+        return this.nodes;
+    }
+
+    public Type type(int node) {
+        if (MISSING == node) {
+            return Type.MISSING;
+        }
+        switch (this.kind(node)) {
+            case K_OBJECT:
+                return Type.OBJECT;
+            case K_ARRAY:
+                return Type.ARRAY;
+            case K_STRING:
+            case K_ESCAPED_STRING:
+                return Type.STRING;
+            case K_NUMBER:
+                return Type.NUMBER;
+            case K_TRUE:
+            case K_FALSE:
+                return Type.BOOLEAN;
+            default:
+                return Type.NULL;
+        }
+    }
+
+    public boolean isMissing(int node) {
+        return MISSING == node;
+    }
+
+    public boolean isNull(int node) {
+        return MISSING != node && K_NULL == this.kind(node);
+    }
+
+    /**
+     * The number of members of an Object, or elements of an Array.
+     */
+    public int size(int node) {
+        int kind = MISSING == node ? MISSING : this.kind(node);
+        if (K_OBJECT != kind && K_ARRAY != kind) {
+            return 0;
+        }
+
+        int size = 0;
+        int end = this.next(node);
+        for (int child = node + 1; child < end; child = this.next(child)) {
+            if (K_OBJECT == kind) {
+                child = this.next(child);
+            }
+            size++;
+        }
+
+        return size;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Look up the member {@code field} of an Object.
+     *
+     * @param node  the Object node
+     * @param field the member name
+     * @return the value node, or {@link #MISSING}
+     */
+    public int get(int node, String field) {
+        if (MISSING == node || K_OBJECT != this.kind(node)) {
+            return MISSING;
+        }
+
+        int end = this.next(node);
+        for (int key = node + 1; key < end; key = this.next(key + 1)) {
+            if (this.keyEquals(key, field)) {
+                return key + 1;
+            }
+        }
+
+        return MISSING;
+    }
+
+    /**
+     * Look up the element {@code index} of an Array.
+     *
+     * @param node  the Array node
+     * @param index the element index
+     * @return the element node, or {@link #MISSING}
+     */
+    public int get(int node, int index) {
+        if (MISSING == node || index < 0 || K_ARRAY != this.kind(node)) {
+            return MISSING;
+        }
+
+        int end = this.next(node);
+        int i = 0;
+        for (int element = node + 1; element < end; element = this.next(element)) {
+            if (i++ == index) {
+                return element;
+            }
+        }
+
+        return MISSING;
+    }
+
+    public int at(String pointer) {
+        return this.at(JsonPointer.compile(pointer));
+    }
+
+    /**
+     * Resolve a JSON Pointer (RFC 6901) from the root.
+     *
+     * @param pointer the compiled pointer
+     * @return the node, or {@link #MISSING}
+     */
+    public int at(JsonPointer pointer) {
+        int node = this.root();
+        for (JsonPointer segment = pointer; MISSING != node && !segment.matches(); segment = segment.tail()) {
+            node = K_ARRAY == this.kind(node)
+                    ? this.get(node, segment.getMatchingIndex())
+                    : this.get(node, segment.getMatchingProperty());
+        }
+
+        return node;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Decode a String; Numbers and Booleans are returned as written, Objects and Arrays as raw JSON.
+     *
+     * @param node the node
+     * @return the text, or {@code null} for {@code null} and {@link #MISSING}
+     */
+    public String getText(int node) {
+        if (MISSING == node) {
+            return null;
+        }
+
+        int start = this.tape[node * STRIDE + START];
+        int end = this.tape[node * STRIDE + END];
+        switch (this.kind(node)) {
+            case K_STRING:
+                return new String(this.json, start + 1, end - start - 2, StandardCharsets.UTF_8);
+            case K_ESCAPED_STRING:
+                return unescape(this.json, start + 1, end - 1);
+            case K_NULL:
+                return null;
+            default:
+                return new String(this.json, start, end - start, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The raw JSON text of a value.
+     */
+    public String getRaw(int node) {
+        if (MISSING == node) {
+            return null;
+        }
+
+        int start = this.tape[node * STRIDE + START];
+
+        return new String(this.json, start, this.tape[node * STRIDE + END] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The value of a number as a {@code long}.
+     *
+     * @throws ArithmeticException if the number has a non-zero fraction or is out of the {@code long} range.
+     */
+    public long getLong(int node) {
+        int start = this.tape[this.checkNumber(node) * STRIDE + START];
+        int end = this.tape[node * STRIDE + END];
+
+        boolean negative = '-' == this.json[start];
+        int i = negative ? start + 1 : start;
+        if (end - i > 18) {
+            return this.getDecimal(node).longValueExact();
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = this.json[i] - '0';
+            if (digit < 0 || digit > 9) {
+                // A fraction or an exponent: exact like the long path, "1.0" and "1e3" are fine, "1.5" throws.
+                return this.getDecimal(node).longValueExact();
+            }
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    public int getInt(int node) {
+        return Math.toIntExact(this.getLong(node));
+    }
+
+    public double getDouble(int node) {
+        return Double.parseDouble(this.latin1(this.checkNumber(node)));
+    }
+
+    public BigDecimal getDecimal(int node) {
+        return new BigDecimal(this.latin1(this.checkNumber(node)));
+    }
+
+    public boolean getBoolean(int node) {
+        int kind = MISSING == node ? MISSING : this.kind(node);
+        if (K_TRUE == kind) {
+            return true;
+        }
+        if (K_FALSE == kind) {
+            return false;
+        }
+
+        throw new IllegalStateException("infras: the json value is not a boolean: " + this.describe(node));
+    }
+
+    /**
+     * Bind a value with the shared mapper, see {@link Jackson#getObjectMapper()}.
+     */
+    public <T> T bind(int node, Class<T> clazz) {
+        return this.bind(Jackson.getObjectMapper(), node, clazz);
+    }
+
+    public <T> T bind(ObjectMapper objectMapper, int node, Class<T> clazz) {
+        if (MISSING == node) {
+            return null;
+        }
+
+        int start = this.tape[node * STRIDE + START];
+        try {
+            return JacksonRegistry.reader(objectMapper, clazz).readValue(this.json, start, this.tape[node * STRIDE + END] - start);
+        } catch (IOException e) {
+            return Jackson.throwUnchecked(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private int kind(int node) {
+        return this.tape[node * STRIDE + KIND];
+    }
+
+    private int next(int node) {
+        return this.tape[node * STRIDE + NEXT];
+    }
+
+    private int checkNumber(int node) {
+        if (MISSING == node || K_NUMBER != this.kind(node)) {
+            throw new IllegalStateException("infras: the json value is not a number: " + this.describe(node));
+        }
+
+        return node;
+    }
+
+    private String describe(int node) {
+        return MISSING == node ? "<missing>" : this.getRaw(node);
+    }
+
+    private String latin1(int node) {
+        int start = this.tape[node * STRIDE + START];
+
+        return new String(this.json, start, this.tape[node * STRIDE + END] - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private boolean keyEquals(int key, String field) {
+        if (K_ESCAPED_STRING == this.kind(key)) {
+            return field.equals(this.getText(key));
+        }
+
+        int position = this.tape[key * STRIDE + START] + 1;
+        int limit = this.tape[key * STRIDE + END] - 1;
+        int length = field.length();
+        for (int i = 0; i < length; i++, position++) {
+            char c = field.charAt(i);
+            if (c >= 0x80) {
+                return field.equals(this.getText(key));
+            }
+            if (position >= limit || this.json[position] != c) {
+                return false;
+            }
+        }
+
+        return position == limit;
+    }
+
+    private static String unescape(byte[] json, int from, int to) {
+        StringBuilder text = new StringBuilder(to - from);
+        int chunk = from;
+        int i = from;
+        while (i < to) {
+            if ('\\' != json[i]) {
+                i++;
+                continue;
+            }
+            text.append(new String(json, chunk, i - chunk, StandardCharsets.UTF_8));
+
+            byte escaped = json[i + 1];
+            i += 2;
+            switch (escaped) {
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'u':
+                    text.append((char) Integer.parseInt(new String(json, i, 4, StandardCharsets.ISO_8859_1), 16));
+                    i += 4;
+                    break;
+                default:
+                    // \" \\ \/
+                    text.append((char) escaped);
+                    break;
+            }
+            chunk = i;
+        }
+        text.append(new String(json, chunk, to - chunk, StandardCharsets.UTF_8));
+
+        return text.toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A single-pass structural scanner, containers are tracked on an explicit stack so deep nesting cannot overflow.
+     */
+    private static final class Indexer {
+
+        private final byte[] json;
+        private final int end;
+        private int position;
+
+        private int[] tape;
+        private int size;
+
+        private int[] containers = new int[16];
+        private int[] counts = new int[16];
+        private int depth;
+
+        Indexer(byte[] json, int offset, int end) {
+            this.json = json;
+            this.position = offset;
+            this.end = end;
+            this.tape = new int[Math.max(16, (end - offset) >> 2) * STRIDE];
+        }
+
+        void index() {
+            this.value();
+            while (this.depth > 0) {
+                int container = this.containers[this.depth - 1];
+                boolean object = K_OBJECT == this.tape[container * STRIDE + KIND];
+
+                byte c = this.peek();
+                if (c == (object ? '}' : ']')) {
+                    this.position++;
+                    this.close();
+                    continue;
+                }
+                if (this.counts[this.depth - 1]++ > 0) {
+                    this.expect(',');
+                }
+                if (object) {
+                    if ('"' != this.peek()) {
+                        throw this.malformed("expected a member name");
+                    }
+                    this.string();
+                    this.expect(':');
+                }
+                this.value();
+            }
+
+            this.skipWhitespace();
+            if (this.position != this.end) {
+                throw this.malformed("unexpected trailing content");
+            }
+        }
+
+        private void value() {
+            byte c = this.peek();
+            switch (c) {
+                case '{':
+                    this.open(K_OBJECT);
+                    break;
+                case '[':
+                    this.open(K_ARRAY);
+                    break;
+                case '"':
+                    this.string();
+                    break;
+                case 't':
+                    this.literal("true", K_TRUE);
+                    break;
+                case 'f':
+                    this.literal("false", K_FALSE);
+                    break;
+                case 'n':
+                    this.literal("null", K_NULL);
+                    break;
+                default:
+                    if ('-' == c || (c >= '0' && c <= '9')) {
+                        this.number();
+                        break;
+                    }
+                    throw this.malformed("unexpected character '" + (char) c + "'");
+            }
+        }
+
+        private void open(int kind) {
+            int node = this.append(kind, this.position, 0);
+            this.position++;
+            if (this.depth == this.containers.length) {
+                this.containers = Arrays.copyOf(this.containers, this.depth << 1);
+                this.counts = Arrays.copyOf(this.counts, this.depth << 1);
+            }
+            this.containers[this.depth] = node;
+            this.counts[this.depth] = 0;
+            this.depth++;
+        }
+
+        private void close() {
+            int node = this.containers[--this.depth];
+            this.tape[node * STRIDE + END] = this.position;
+            this.tape[node * STRIDE + NEXT] = this.size;
+        }
+
+        private void string() {
+            int start = this.position++;
+            int kind = K_STRING;
+            while (true) {
+                if (this.position >= this.end) {
+                    throw this.malformed("unterminated string");
+                }
+                byte c = this.json[this.position++];
+                if ('"' == c) {
+                    break;
+                }
+                if ('\\' == c) {
+                    kind = K_ESCAPED_STRING;
+                    this.position++;
+                } else if (c >= 0 && c < 0x20) {
+                    throw this.malformed("unescaped control character in string");
+                }
+            }
+            this.append(kind, start, this.position);
+        }
+
+        private void number() {
+            int start = this.position;
+            if ('-' == this.json[this.position]) {
+                this.position++;
+            }
+            int integral = this.position;
+            int digits = this.digits();
+            if (digits == 0 || (digits > 1 && '0' == this.json[integral])) {
+                throw this.malformed("invalid number");
+            }
+            if (this.position < this.end && '.' == this.json[this.position]) {
+                this.position++;
+                if (this.digits() == 0) {
+                    throw this.malformed("invalid number fraction");
+                }
+            }
+            if (this.position < this.end && ('e' == this.json[this.position] || 'E' == this.json[this.position])) {
+                this.position++;
+                if (this.position < this.end && ('+' == this.json[this.position] || '-' == this.json[this.position])) {
+                    this.position++;
+                }
+                if (this.digits() == 0) {
+                    throw this.malformed("invalid number exponent");
+                }
+            }
+            this.append(K_NUMBER, start, this.position);
+        }
+
+        private int digits() {
+            int start = this.position;
+            while (this.position < this.end && this.json[this.position] >= '0' && this.json[this.position] <= '9') {
+                this.position++;
+            }
+
+            return this.position - start;
+        }
+
+        private void literal(String literal, int kind) {
+            int start = this.position;
+            int length = literal.length();
+            if (this.end - start < length) {
+                throw this.malformed("unexpected end of input");
+            }
+            for (int i = 0; i < length; i++) {
+                if (this.json[start + i] != literal.charAt(i)) {
+                    throw this.malformed("unexpected literal");
+                }
+            }
+            this.position += length;
+            this.append(kind, start, this.position);
+        }
+
+        private int append(int kind, int start, int end) {
+            if ((this.size + 1) * STRIDE > this.tape.length) {
+                this.tape = Arrays.copyOf(this.tape, this.tape.length << 1);
+            }
+            int node = this.size++;
+            int base = node * STRIDE;
+            this.tape[base + KIND] = kind;
+            this.tape[base + START] = start;
+            this.tape[base + END] = end;
+            this.tape[base + NEXT] = this.size;
+
+            return node;
+        }
+
+        private void expect(char expected) {
+            if (this.peek() != expected) {
+                throw this.malformed("expected '" + expected + "'");
+            }
+            this.position++;
+        }
+
+        private byte peek() {
+            this.skipWhitespace();
+            if (this.position >= this.end) {
+                throw this.malformed("unexpected end of input");
+            }
+
+            return this.json[this.position];
+        }
+
+        private void skipWhitespace() {
+            while (this.position < this.end) {
+                byte c = this.json[this.position];
+                if (' ' != c && '\n' != c && '\r' != c && '\t' != c) {
+                    return;
+                }
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException malformed(String reason) {
+            return new IllegalArgumentException("infras: malformed json at offset " + this.position + ", " + reason);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -74,6 +76,54 @@ class JSONTest extends LocalTest {
         Assertions.assertThrows(PathNotFoundException.class, () -> ctx.read("$.age"));
     }
 
+    @Test
+    void testJackson_parseObject_with_view() {
+        String json = "{\"id\": 1714314630000, \"name\": \"photowey\", \"age\": 18}";
+
+        Student student = JSON.Jackson.parseObject(json, Student.class, View.Public.class);
+        Assertions.assertEquals(1714314630000L, student.getId());
+        Assertions.assertEquals("photowey", student.getName());
+        Assertions.assertNull(student.getAge());
+
+        Assertions.assertEquals(18, JSON.Jackson.parseObject(json, Student.class, null).getAge());
+
+        // The non-view value is skipped without being bound, so its shape doesn't matter.
+        String mismatched = "{\"id\": 1, \"age\": {\"deep\": [1, 2, {\"x\": \"y\"}]}, \"name\": \"photowey\"}";
+        Student projected = JSON.Jackson.parseObject(mismatched.getBytes(StandardCharsets.UTF_8), Student.class, View.Public.class);
+        Assertions.assertEquals("photowey", projected.getName());
+        Assertions.assertEquals(1L, JSON.Jackson.parseObject(new ByteArrayInputStream(mismatched.getBytes(StandardCharsets.UTF_8)), Student.class, View.Public.class).getId());
+
+        Assertions.assertThrows(Exception.class, () -> JSON.Jackson.parseObject(mismatched, Student.class));
+    }
+
+    @Test
+    void testJackson_parseObject_slices() {
+        String json = "{\"id\": 1714314630000, \"name\": \"photowey\", \"age\": 18}";
+        String expected = "Student(id=1714314630000, name=photowey, age=18)";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        byte[] framed = ("####" + json + "####").getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertEquals(expected, JSON.Jackson.parseObject(framed, 4, bytes.length, Student.class).toString());
+        Map<String, Object> map = JSON.Jackson.parseObject(framed, 4, bytes.length, new TypeReference<Map<String, Object>>() {});
+        Assertions.assertEquals("photowey", map.get("name"));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> JSON.Jackson.parseObject(framed, 8, framed.length, Student.class));
+
+        ByteBuffer heap = ByteBuffer.wrap(framed, 4, bytes.length).slice();
+        Assertions.assertEquals(expected, JSON.Jackson.parseObject(heap, Student.class).toString());
+        ByteBuffer direct = ByteBuffer.allocateDirect(framed.length);
+        direct.put(framed);
+        direct.position(4);
+        direct.limit(4 + bytes.length);
+        Assertions.assertEquals(expected, JSON.Jackson.parseObject(direct, Student.class).toString());
+        // The position is left unchanged.
+        Assertions.assertEquals(4, direct.position());
+        Assertions.assertEquals(18, JSON.Jackson.parseObject(direct.asReadOnlyBuffer(), new TypeReference<Map<String, Object>>() {}).get("age"));
+
+        Assertions.assertEquals(expected, JSON.Jackson.parseObject(new StringBuilder(json), Student.class).toString());
+        Assertions.assertEquals(expected, JSON.Jackson.parseObject(CharBuffer.wrap(json), Student.class).toString());
+        Assertions.assertEquals(1714314630000L, JSON.Jackson.parseObject((CharSequence) json, new TypeReference<Map<String, Object>>() {}).get("id"));
+    }
+
     @Test
     void testJackson_toPrettyString() {
         Long now = 1714314630000L;
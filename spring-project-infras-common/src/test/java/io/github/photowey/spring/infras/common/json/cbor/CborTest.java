@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.cbor;
+
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code CborTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class CborTest extends LocalTest {
+
+    @Test
+    void testToBytes_parseObject() {
+        Student student = Student.builder().id(1L).name("photowey").age(18).build();
+
+        byte[] data = JSON.Cbor.toBytes(student);
+        Assertions.assertTrue(data.length < JSON.Jackson.toBytes(student).length);
+
+        Student parsed = Cbor.parseObject(data, Student.class);
+        Assertions.assertEquals(1L, parsed.getId());
+        Assertions.assertEquals("photowey", parsed.getName());
+        Assertions.assertEquals(18, parsed.getAge());
+    }
+
+    @Test
+    void testParseList() {
+        List<Student> students = Arrays.asList(
+                Student.builder().id(1L).name("photowey").age(18).build(),
+                Student.builder().id(2L).name("sharkchili").build()
+        );
+
+        List<Student> parsed = JSON.Cbor.parseList(new ByteArrayInputStream(Cbor.toBytes(students)), Student.class);
+        Assertions.assertEquals(2, parsed.size());
+        Assertions.assertEquals("sharkchili", parsed.get(1).getName());
+        Assertions.assertNull(parsed.get(1).getAge());
+    }
+}
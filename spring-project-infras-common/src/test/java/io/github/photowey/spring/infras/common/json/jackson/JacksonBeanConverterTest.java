@@ -0,0 +1,517 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * {@code JacksonBeanConverterTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonBeanConverterTest extends LocalTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    @Test
+    void testToMap() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        Account account = Account.sample();
+
+        Assertions.assertTrue(JacksonBeanConverter.supportsWrite(objectMapper, Account.class));
+        Assertions.assertTrue(JacksonBeanConverter.supportsWrite(objectMapper, Address.class));
+
+        Map<String, Object> map = Jackson.toMap(account);
+        Assertions.assertEquals(objectMapper.convertValue(account, MAP_TYPE), map);
+        Assertions.assertEquals(new ArrayList<>(objectMapper.convertValue(account, MAP_TYPE).keySet()), new ArrayList<>(map.keySet()));
+
+        Assertions.assertEquals("ACC-1", map.get("account_no"));
+        Assertions.assertFalse(map.containsKey("secret"));
+        Assertions.assertFalse(map.containsKey("remark"));
+        Assertions.assertEquals(new BigDecimal("1.1"), map.get("rate"));
+        Assertions.assertEquals("Y", map.get("flag"));
+        Assertions.assertEquals("ACTIVE", map.get("status"));
+        Assertions.assertTrue(map.get("address") instanceof Map);
+    }
+
+    @Test
+    void testToObject() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        Account account = Account.sample();
+        Map<String, Object> map = Jackson.toMap(account);
+
+        Assertions.assertTrue(JacksonBeanConverter.supportsRead(objectMapper, Account.class));
+
+        Account converted = Jackson.toObject(map, Account.class);
+        Account expected = objectMapper.convertValue(map, Account.class);
+        Assertions.assertEquals(objectMapper.convertValue(expected, MAP_TYPE), objectMapper.convertValue(converted, MAP_TYPE));
+        Assertions.assertEquals(account.getBalance(), converted.getBalance());
+        Assertions.assertEquals("Shanghai", converted.getAddress().getCity());
+        Assertions.assertEquals(Arrays.asList("a", "b"), converted.getTags());
+        Assertions.assertEquals("Shanghai", converted.getAddresses().get(0).getCity());
+        Assertions.assertNull(converted.getAddresses().get(1));
+
+        map.put("addresses", Collections.singletonList(Collections.singletonMap("city", "Hangzhou")));
+        Assertions.assertEquals("Hangzhou", Jackson.toObject(map, Account.class).getAddresses().get(0).getCity());
+
+        Map<String, Object> coerced = new LinkedHashMap<>();
+        coerced.put("id", 7);
+        coerced.put("score", 3);
+        coerced.put("count", "12");
+        coerced.put("rate", 2.5D);
+        Account fromCoerced = Jackson.toObject(coerced, Account.class);
+        Assertions.assertEquals(7L, fromCoerced.getId());
+        Assertions.assertEquals(3D, fromCoerced.getScore());
+        Assertions.assertEquals(12, fromCoerced.getCount());
+        Assertions.assertEquals(2.5D, fromCoerced.getRate());
+    }
+
+    @Test
+    void testFallback() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+
+        Assertions.assertFalse(JacksonBeanConverter.supportsWrite(objectMapper, Formatted.class));
+        Assertions.assertFalse(JacksonBeanConverter.supportsRead(objectMapper, Formatted.class));
+
+        Formatted formatted = new Formatted();
+        formatted.setWhen(new Date(0L));
+        Map<String, Object> map = Jackson.toMap(formatted);
+        Assertions.assertEquals("1970-01-01", map.get("when"));
+        Assertions.assertEquals(0L, Jackson.toObject(map, Formatted.class).getWhen().getTime());
+
+        Map<String, Object> unknown = new HashMap<>();
+        unknown.put("id", 1L);
+        unknown.put("unknown", 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.toObject(unknown, Student.class));
+
+        ObjectMapper lenient = Jackson.getObjectMapper(JacksonProfiles.LENIENT);
+        Assertions.assertEquals(1L, Jackson.toObject(lenient, unknown, Student.class).getId());
+        Assertions.assertEquals("Hangzhou", Jackson.toObject(lenient, Collections.singletonMap("town", "Hangzhou"), Aliased.class).getCity());
+
+        Map<String, Object> nulls = new HashMap<>();
+        nulls.put("count", null);
+        Assertions.assertEquals(0, Jackson.toObject(nulls, Account.class).getCount());
+        ObjectMapper strict = JsonMapper.builder().configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, true).build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.toObject(strict, nulls, Account.class));
+
+        Assertions.assertNull(Jackson.toMap(null));
+        Assertions.assertNull(Jackson.toObject(null, Student.class));
+        Assertions.assertEquals(Collections.singletonMap("k", "v"), Jackson.toMap(Collections.singletonMap("k", "v")));
+    }
+
+    @Test
+    void testHiddenAndNaming() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper().copy().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        Hidden hidden = new Hidden();
+        hidden.setFirstName("photo");
+        hidden.visits = 3;
+
+        Assertions.assertTrue(JacksonBeanConverter.supportsWrite(objectMapper, Hidden.class));
+        Map<String, Object> map = Jackson.toMap(objectMapper, hidden);
+        Assertions.assertEquals(objectMapper.convertValue(hidden, MAP_TYPE), map);
+        Assertions.assertEquals("photo", map.get("first_name"));
+
+        Hidden converted = Jackson.toObject(objectMapper, map, Hidden.class);
+        Assertions.assertEquals("photo", converted.getFirstName());
+        Assertions.assertEquals(3, converted.visits);
+
+        Student student = Student.builder().id(1L).name("photowey").age(18).build();
+        Assertions.assertEquals(student.toString(), JSON.Jackson.toObject(JSON.Jackson.toMap(student), Student.class).toString());
+    }
+
+    @Test
+    void testConvert() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        Account account = Account.sample();
+
+        Assertions.assertTrue(JacksonBeanConverter.supportsCopy(objectMapper, Account.class, AccountView.class));
+
+        AccountView view = Jackson.convert(account, AccountView.class);
+        AccountView expected = objectMapper.convertValue(account, AccountView.class);
+        Assertions.assertEquals(objectMapper.convertValue(expected, MAP_TYPE), objectMapper.convertValue(view, MAP_TYPE));
+        Assertions.assertEquals(1L, view.getId());
+        Assertions.assertEquals("2", view.getCount());
+        Assertions.assertEquals(new BigDecimal("3.75"), view.getScore());
+        Assertions.assertEquals(Status.ACTIVE, view.getStatus());
+        Assertions.assertEquals("Shanghai", view.getAddress().getCity());
+        Assertions.assertEquals("Shanghai", view.getAddresses().get(0).getCity());
+        Assertions.assertNull(view.getAddresses().get(1));
+
+        List<Account> accounts = Arrays.asList(account, null, Account.sample());
+        List<AccountView> views = JSON.Jackson.convertAll(accounts, AccountView.class);
+        Assertions.assertEquals(3, views.size());
+        Assertions.assertNull(views.get(1));
+        Assertions.assertEquals("ACC-1", views.get(2).getAccountNo());
+
+        // Unknown properties: the mapper decides.
+        view.setCity("Hangzhou");
+        Assertions.assertFalse(JacksonBeanConverter.supportsCopy(objectMapper, AccountView.class, Address.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.convert(view, Address.class));
+        Assertions.assertEquals("Hangzhou", Jackson.convert(Jackson.getObjectMapper(JacksonProfiles.LENIENT), view, Address.class).getCity());
+    }
+
+    @Test
+    void testConvert_bounded() {
+        JacksonBeanConverter.clean();
+        Account account = Account.sample();
+        for (int i = 0; i < 4 * JacksonBeanConverter.MAX_MAPPERS; i++) {
+            // Per-call mappers must not pile up in the plan caches.
+            Assertions.assertEquals(1L, Jackson.convert(Jackson.getObjectMapper().copy(), account, AccountView.class).getId());
+        }
+
+        Assertions.assertTrue(JacksonBeanConverter.mappers() <= 3 * JacksonBeanConverter.MAX_MAPPERS);
+    }
+
+    // ----------------------------------------------------------------
+
+    public enum Status {
+        ACTIVE, CLOSED
+    }
+
+    public static class Address {
+
+        private String city;
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    public static class Account {
+
+        private long id;
+        private int count;
+        private double score;
+        private Double rate;
+        private float ratio;
+        private char flag;
+        private boolean enabled;
+        private BigDecimal balance;
+        @JsonProperty("account_no")
+        private String accountNo;
+        @JsonIgnore
+        private String secret;
+        private String remark;
+        private Status status;
+        private Date createdAt;
+        private List<String> tags;
+        private Address address;
+        private List<Address> addresses;
+
+        static Account sample() {
+            Account account = new Account();
+            account.setId(1L);
+            account.setCount(2);
+            account.setScore(3.75D);
+            account.setRate(1.1D);
+            account.setRatio(1.1F);
+            account.setFlag('Y');
+            account.setEnabled(true);
+            account.setBalance(new BigDecimal("1.50"));
+            account.setAccountNo("ACC-1");
+            account.setSecret("secret");
+            account.setStatus(Status.ACTIVE);
+            account.setCreatedAt(new Date(1700000000000L));
+            account.setTags(Arrays.asList("a", "b"));
+            Address address = new Address();
+            address.setCity("Shanghai");
+            account.setAddress(address);
+            account.setAddresses(Arrays.asList(address, null));
+
+            return account;
+        }
+
+        public long getId() {
+            return this.id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public double getScore() {
+            return this.score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public Double getRate() {
+            return this.rate;
+        }
+
+        public void setRate(Double rate) {
+            this.rate = rate;
+        }
+
+        public float getRatio() {
+            return this.ratio;
+        }
+
+        public void setRatio(float ratio) {
+            this.ratio = ratio;
+        }
+
+        public char getFlag() {
+            return this.flag;
+        }
+
+        public void setFlag(char flag) {
+            this.flag = flag;
+        }
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public BigDecimal getBalance() {
+            return this.balance;
+        }
+
+        public void setBalance(BigDecimal balance) {
+            this.balance = balance;
+        }
+
+        public String getAccountNo() {
+            return this.accountNo;
+        }
+
+        public void setAccountNo(String accountNo) {
+            this.accountNo = accountNo;
+        }
+
+        public String getSecret() {
+            return this.secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public String getRemark() {
+            return this.remark;
+        }
+
+        public void setRemark(String remark) {
+            this.remark = remark;
+        }
+
+        public Status getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Date getCreatedAt() {
+            return this.createdAt;
+        }
+
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Address getAddress() {
+            return this.address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public List<Address> getAddresses() {
+            return this.addresses;
+        }
+
+        public void setAddresses(List<Address> addresses) {
+            this.addresses = addresses;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class AccountView {
+
+        private Long id;
+        private String count;
+        private BigDecimal score;
+        @JsonProperty("account_no")
+        private String accountNo;
+        private Status status;
+        private Date createdAt;
+        private Address address;
+        private List<Address> addresses;
+        private String city;
+
+        public Long getId() {
+            return this.id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCount() {
+            return this.count;
+        }
+
+        public void setCount(String count) {
+            this.count = count;
+        }
+
+        public BigDecimal getScore() {
+            return this.score;
+        }
+
+        public void setScore(BigDecimal score) {
+            this.score = score;
+        }
+
+        public String getAccountNo() {
+            return this.accountNo;
+        }
+
+        public void setAccountNo(String accountNo) {
+            this.accountNo = accountNo;
+        }
+
+        public Status getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Date getCreatedAt() {
+            return this.createdAt;
+        }
+
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Address getAddress() {
+            return this.address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public List<Address> getAddresses() {
+            return this.addresses;
+        }
+
+        public void setAddresses(List<Address> addresses) {
+            this.addresses = addresses;
+        }
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    public static class Formatted {
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "UTC")
+        private Date when;
+
+        public Date getWhen() {
+            return this.when;
+        }
+
+        public void setWhen(Date when) {
+            this.when = when;
+        }
+    }
+
+    public static class Aliased {
+
+        @JsonAlias("town")
+        private String city;
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    static class Hidden {
+
+        private String firstName;
+        public int visits;
+
+        public String getFirstName() {
+            return this.firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@code JacksonColumnDecoderTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonColumnDecoderTest extends LocalTest {
+
+    private static final JacksonColumnSchema SCHEMA = JacksonColumnSchema.builder()
+            .longColumn("ts")
+            .doubleColumn("v")
+            .stringColumn("tag")
+            .booleanColumn("ok")
+            .intColumn("n")
+            .build();
+
+    @Test
+    void testParseColumns() {
+        String json = "["
+                + "{\"ts\": 1700000000000, \"v\": 1.5, \"tag\": \"cpu\", \"ok\": true, \"n\": 1, \"extra\": {\"a\": [1, 2]}},"
+                + "{\"tag\": \"mem\", \"v\": 2, \"ts\": 1700000001000, \"ok\": false, \"n\": 2},"
+                + "{\"ts\": 1700000002000, \"v\": null, \"tag\": \"cpu\"}"
+                + "]";
+
+        JacksonColumns columns = JSON.Jackson.parseColumns(stream(json), SCHEMA);
+
+        Assertions.assertEquals(3, columns.rows());
+        Assertions.assertArrayEquals(new long[]{1700000000000L, 1700000001000L, 1700000002000L}, columns.longs("ts"));
+        Assertions.assertArrayEquals(new double[]{1.5D, 2D, 0D}, columns.doubles("v"));
+        Assertions.assertArrayEquals(new boolean[]{true, false, false}, columns.booleans("ok"));
+        Assertions.assertArrayEquals(new int[]{1, 2, 0}, columns.ints("n"));
+
+        JacksonColumns.StringColumn tags = columns.strings("tag");
+        Assertions.assertEquals(Arrays.asList("cpu", "mem"), tags.dictionary());
+        Assertions.assertArrayEquals(new int[]{0, 1, 0}, tags.codes());
+        Assertions.assertEquals("mem", tags.get(1));
+
+        Assertions.assertFalse(columns.isNull("v", 1));
+        Assertions.assertTrue(columns.isNull("v", 2));
+        Assertions.assertTrue(columns.isNull("ok", 2));
+        Assertions.assertFalse(columns.isNull("tag", 2));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> columns.longs("v"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> columns.ints("unknown"));
+    }
+
+    @Test
+    void testCoercionAndDictionary() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i > 0 ? "," : "").append("{\"ts\": \"").append(i).append("\", \"tag\": ").append(i % 3 == 0 ? "null" : "\"t" + (i % 7) + "\"").append('}');
+        }
+
+        JacksonColumns columns = Jackson.parseColumns(json.append(']').toString().getBytes(StandardCharsets.UTF_8), SCHEMA);
+        Assertions.assertEquals(1000, columns.rows());
+        Assertions.assertEquals(999L, columns.longs("ts")[999]);
+
+        JacksonColumns.StringColumn tags = columns.strings("tag");
+        Assertions.assertEquals(7, tags.dictionary().size());
+        Assertions.assertEquals(-1, tags.codes()[0]);
+        Assertions.assertNull(tags.get(0));
+        Assertions.assertEquals("t1", tags.get(1));
+        Assertions.assertTrue(columns.isNull("tag", 999));
+
+        // A number into a string column is coerced by the mapper.
+        Assertions.assertEquals("42", Jackson.parseColumns(stream("[{\"tag\": 42}]"), SCHEMA).strings("tag").get(0));
+    }
+
+    @Test
+    void testMalformed() {
+        Assertions.assertNull(Jackson.parseColumns(stream("null"), SCHEMA));
+        Assertions.assertEquals(0, Jackson.parseColumns(stream("[]"), SCHEMA).rows());
+
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseColumns(stream("{}"), SCHEMA));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseColumns(stream("[1, 2]"), SCHEMA));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseColumns(stream("[{\"ts\": 1}"), SCHEMA));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseColumns(stream("[{\"n\": 3000000000}]"), SCHEMA));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseColumns(stream("[{\"ts\": {}}]"), SCHEMA));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JacksonColumnSchema.builder().longColumn("a").intColumn("a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JacksonColumnSchema.builder().build());
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code JacksonHashTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonHashTest extends LocalTest {
+
+    @Test
+    void testHash() throws Exception {
+        Student student = new Student(1L, "photowey", 18);
+        byte[] json = Jackson.toBytes(student);
+
+        Assertions.assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(json), JSON.Jackson.hash(student, "SHA-256"));
+        Assertions.assertArrayEquals(MessageDigest.getInstance("MD5").digest(json), Jackson.hash(student, "MD5", false));
+        Assertions.assertEquals(json.length, JSON.Jackson.serializedLength(student));
+        Assertions.assertEquals(4L, Jackson.serializedLength(null));
+
+        Assertions.assertThrows(Exception.class, () -> Jackson.hash(student, "NO-SUCH-DIGEST"));
+    }
+
+    @Test
+    void testCanonical_bounded() {
+        JacksonCanonical.clean();
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("b", 1.50D);
+        value.put("a", 1);
+        byte[] expected = Jackson.toCanonicalBytes(value);
+
+        for (int i = 0; i < 4 * JacksonCanonical.MAX_MAPPERS; i++) {
+            // Per-call mappers must not pile up in the canonical cache.
+            Assertions.assertArrayEquals(expected, Jackson.toCanonicalBytes(Jackson.getObjectMapper().copy(), value));
+        }
+
+        Assertions.assertTrue(JacksonCanonical.mappers() <= JacksonCanonical.MAX_MAPPERS);
+    }
+
+    @Test
+    void testCanonical() {
+        Map<String, Object> left = new LinkedHashMap<>();
+        left.put("b", 1);
+        left.put("a", Arrays.asList(1.0D, 1.50F, new BigDecimal("0.100")));
+        left.put("c", new BigDecimal("1E+3"));
+
+        Map<String, Object> right = new LinkedHashMap<>();
+        right.put("c", 1000.0D);
+        right.put("a", Arrays.asList(new BigDecimal("1.00"), 1.5D, 0.1D));
+        right.put("b", 1.0F);
+
+        byte[] canonical = JSON.Jackson.toCanonicalBytes(left);
+        Assertions.assertEquals("{\"a\":[1,1.5,0.1],\"b\":1,\"c\":1000}", new String(canonical, StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(canonical, Jackson.toCanonicalBytes(right));
+        Assertions.assertArrayEquals(Jackson.hash(left, "SHA-256", true), JSON.Jackson.hash(right, "SHA-256", true));
+        Assertions.assertFalse(Arrays.equals(Jackson.hash(left, "SHA-256"), Jackson.hash(right, "SHA-256")));
+
+        // Bean properties are sorted by name too.
+        Assertions.assertEquals("{\"age\":18,\"id\":1,\"name\":\"photowey\"}",
+                new String(Jackson.toCanonicalBytes(new Student(1L, "photowey", 18)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCanonical_numbers() {
+        Assertions.assertEquals("0", JacksonCanonical.normalize(new BigDecimal("0.000")));
+        Assertions.assertEquals("-2.5", JacksonCanonical.normalize(new BigDecimal("-2.50")));
+        Assertions.assertEquals("0.0000001", JacksonCanonical.normalize(new BigDecimal("1E-7")));
+        Assertions.assertEquals("1E-8", JacksonCanonical.normalize(new BigDecimal("1E-8")));
+        Assertions.assertEquals("1E+21", JacksonCanonical.normalize(new BigDecimal("1E+21")));
+
+        Assertions.assertEquals("[0,1E+21,0.1,1E-8]",
+                new String(Jackson.toCanonicalBytes(new double[]{-0.0D, 1e21D, 0.1D, 1e-8D}), StandardCharsets.UTF_8));
+        Assertions.assertEquals("[2,0.1]", new String(Jackson.toCanonicalBytes(new float[]{2.0F, 0.1F}), StandardCharsets.UTF_8));
+    }
+}
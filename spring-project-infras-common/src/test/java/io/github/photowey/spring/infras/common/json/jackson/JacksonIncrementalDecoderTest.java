@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code JacksonIncrementalDecoderTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonIncrementalDecoderTest extends LocalTest {
+
+    @Test
+    void testFeed_array() {
+        List<Student> students = new ArrayList<>();
+        byte[] body = "[{\"id\":1,\"name\":\"photowey\",\"age\":18},{\"id\":2,\"name\":\"sharkchili\",\"age\":20}]"
+                .getBytes(StandardCharsets.UTF_8);
+
+        try (JacksonIncrementalDecoder<Student> decoder = Jackson.incrementalDecoder(Student.class, students::add)) {
+            // One byte at a time: values must survive any split point.
+            for (int i = 0; i < body.length; i++) {
+                decoder.feed(body, i, 1);
+                if (i < 30) {
+                    Assertions.assertTrue(students.isEmpty());
+                }
+            }
+            Assertions.assertEquals(2, students.size());
+            decoder.endOfInput();
+        }
+
+        Assertions.assertEquals(1L, students.get(0).getId());
+        Assertions.assertEquals("sharkchili", students.get(1).getName());
+    }
+
+    @Test
+    void testFeed_values() {
+        List<Map<String, Object>> values = new ArrayList<>();
+        byte[] body = "{\"price\": 1.25}\n{\"price\": 2}\n".getBytes(StandardCharsets.UTF_8);
+
+        JacksonIncrementalDecoder<Map> decoder = JSON.Jackson.incrementalDecoder(Map.class, values::add);
+        decoder.feed(ByteBuffer.wrap(body, 0, 10));
+        ByteBuffer direct = ByteBuffer.allocateDirect(body.length - 10);
+        direct.put(body, 10, body.length - 10).flip();
+        decoder.feed(direct);
+        decoder.endOfInput();
+
+        Assertions.assertEquals(2, values.size());
+        Assertions.assertEquals(new BigDecimal("1.25"), values.get(0).get("price"));
+        Assertions.assertEquals(2, values.get(1).get("price"));
+    }
+
+    @Test
+    void testFeed_container_target() {
+        List<List<Student>> batches = new ArrayList<>();
+        byte[] body = "[{\"id\":1},{\"id\":2}]\n[{\"id\":3}]".getBytes(StandardCharsets.UTF_8);
+
+        // A collection target receives each top-level Array whole, not its elements.
+        JacksonIncrementalDecoder<List<Student>> decoder = Jackson.incrementalDecoder(new TypeReference<List<Student>>() {}, batches::add);
+        decoder.feed(body);
+        decoder.endOfInput();
+
+        Assertions.assertEquals(2, batches.size());
+        Assertions.assertEquals(2, batches.get(0).size());
+        Assertions.assertEquals(2L, batches.get(0).get(1).getId());
+        Assertions.assertEquals(3L, batches.get(1).get(0).getId());
+
+        List<long[]> arrays = new ArrayList<>();
+        JacksonIncrementalDecoder<long[]> longs = Jackson.incrementalDecoder(long[].class, arrays::add);
+        longs.feed("[1, 2, 3]".getBytes(StandardCharsets.UTF_8));
+        longs.endOfInput();
+        Assertions.assertArrayEquals(new long[]{1L, 2L, 3L}, arrays.get(0));
+    }
+
+    @Test
+    void testEndOfInput_truncated() {
+        JacksonIncrementalDecoder<Student> decoder = Jackson.incrementalDecoder(Student.class, student -> {
+        });
+        decoder.feed("[{\"id\":1}, {\"id\"".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(JsonProcessingException.class, decoder::endOfInput);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code JacksonInstancePoolTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonInstancePoolTest extends LocalTest {
+
+    @Test
+    void testParseInto() {
+        Student student = new Student(1L, "photowey", 18);
+
+        Assertions.assertSame(student, JSON.Jackson.parseInto("{\"name\": \"infras\"}", student));
+        Assertions.assertEquals("infras", student.getName());
+        // Missing properties are left as they are.
+        Assertions.assertEquals(1L, student.getId());
+        Assertions.assertEquals(18, student.getAge());
+
+        Jackson.parseInto("{\"age\": 20}".getBytes(StandardCharsets.UTF_8), student);
+        Jackson.parseInto(new ByteArrayInputStream("{\"id\": 2}".getBytes(StandardCharsets.UTF_8)), student);
+        Assertions.assertEquals("Student(id=2, name=infras, age=20)", student.toString());
+
+        Assertions.assertThrows(NullPointerException.class, () -> Jackson.parseInto("{}", (Student) null));
+    }
+
+    @Test
+    void testInstancePool() {
+        JacksonInstancePool<Student> pool = JSON.Jackson.instancePool(Student.class, Student::new, (x) -> {
+            x.setId(null);
+            x.setName(null);
+            x.setAge(null);
+        }, 2);
+
+        Student first = pool.parse("{\"id\": 1, \"name\": \"photowey\", \"age\": 18}");
+        Assertions.assertEquals(1L, pool.created());
+        pool.release(first);
+        Assertions.assertEquals(1, pool.available());
+
+        Student second = pool.parse("{\"id\": 2}".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1L, pool.created());
+        // The reset cleared the previous message.
+        Assertions.assertEquals("Student(id=2, name=null, age=null)", second.toString());
+
+        Student third = pool.parse(new ByteArrayInputStream("{\"id\": 3}".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertNotSame(second, third);
+        Assertions.assertEquals(2L, pool.created());
+
+        pool.release(second);
+        pool.release(third);
+        pool.release(new Student());
+        Assertions.assertEquals(2, pool.available());
+        Assertions.assertEquals(Student.class, pool.type());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.instancePool(Student.class, Student::new, null, 0));
+    }
+
+    @Test
+    void testInstancePool_malformed() {
+        JacksonInstancePool<Student> pool = Jackson.instancePool(Student.class, Student::new, (x) -> x.setId(null), 2);
+        pool.release(pool.acquire());
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThrows(JsonProcessingException.class, () -> pool.parse("{\"id\": "));
+            Assertions.assertThrows(JsonProcessingException.class, () -> pool.parse("{\"id\": {}}".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        // The instance went back to the pool on each failure.
+        Assertions.assertEquals(1L, pool.created());
+        Assertions.assertEquals(1, pool.available());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.io.MappedFileInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code JacksonMappedFileTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonMappedFileTest extends LocalTest {
+
+    private static final String JSON_ARRAY = "[{\"id\":1,\"name\":\"photowey\",\"age\":18},{\"id\":2,\"name\":\"infras\",\"age\":20}]";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testParseFile() throws IOException {
+        Path file = Files.write(this.dir.resolve("students.json"), JSON_ARRAY.getBytes(StandardCharsets.UTF_8));
+
+        List<Student> students = JSON.Jackson.parseList(file, Student.class);
+        Assertions.assertEquals(2, students.size());
+        Assertions.assertEquals("infras", students.get(1).getName());
+
+        List<Map<String, Object>> maps = Jackson.parseObject(file, new TypeReference<List<Map<String, Object>>>() {});
+        Assertions.assertEquals(18, maps.get(0).get("age"));
+
+        try (Stream<Student> stream = JSON.Jackson.streamArray(file, Student.class)) {
+            Assertions.assertEquals(3L, stream.mapToLong(Student::getId).sum());
+        }
+
+        Path single = Files.write(this.dir.resolve("student.json"), "{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(7L, Jackson.parseObject(single, Student.class).getId());
+        Assertions.assertThrows(IOException.class, () -> Jackson.parseObject(this.dir.resolve("missing.json"), Student.class));
+    }
+
+    @Test
+    void testParseChannel() throws IOException {
+        Path file = Files.write(this.dir.resolve("prefixed.json"), ("#####" + JSON_ARRAY).getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(5L);
+            Assertions.assertEquals(2, Jackson.parseList(channel, Student.class).size());
+
+            // The channel is left open and its position untouched.
+            Assertions.assertTrue(channel.isOpen());
+            Assertions.assertEquals(5L, channel.position());
+            Assertions.assertEquals(1L, JSON.Jackson.iterateArray(channel, Student.class).next().getId());
+        }
+    }
+
+    @Test
+    void testWindows() throws IOException {
+        byte[] bytes = JSON_ARRAY.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(this.dir.resolve("windows.json"), bytes);
+
+        // A 7-byte window forces values, strings and numbers across window boundaries.
+        try (MappedFileInputStream input = MappedFileInputStream.open(file, 7)) {
+            Assertions.assertEquals(bytes.length, input.available());
+            Assertions.assertEquals(2, Jackson.parseList(Jackson.getObjectMapper(), input, Student.class).size());
+        }
+
+        try (MappedFileInputStream input = MappedFileInputStream.open(file, 7)) {
+            Assertions.assertEquals('[', input.read());
+            input.mark(0);
+            Assertions.assertEquals(10L, input.skip(10L));
+            input.reset();
+            Assertions.assertEquals(1L, input.position());
+            Assertions.assertArrayEquals(bytes, concat('[', readAll(input)));
+            Assertions.assertEquals(-1, input.read());
+        }
+    }
+
+    private static byte[] readAll(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[5];
+        int n;
+        while ((n = input.read(buffer)) > 0) {
+            output.write(buffer, 0, n);
+        }
+
+        return output.toByteArray();
+    }
+
+    private static byte[] concat(int head, byte[] tail) {
+        byte[] bytes = new byte[tail.length + 1];
+        bytes[0] = (byte) head;
+        System.arraycopy(tail, 0, bytes, 1, tail.length);
+
+        return bytes;
+    }
+}
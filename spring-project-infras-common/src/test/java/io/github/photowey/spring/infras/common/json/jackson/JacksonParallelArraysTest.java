@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code JacksonParallelArraysTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonParallelArraysTest extends LocalTest {
+
+    @Test
+    void testSplit() {
+        byte[] json = bytes(" [\"a,]\", {\"b\": [1, 2]}, \"c\\\"\", 3] ");
+        int[] boundaries = JacksonParallelArrays.split(json, 4);
+        Assertions.assertNotNull(boundaries);
+        Assertions.assertEquals(1, boundaries[0]);
+        Assertions.assertEquals(json.length - 2, boundaries[boundaries.length - 1]);
+        for (int i = 1; i < boundaries.length - 1; i++) {
+            Assertions.assertEquals(',', json[boundaries[i]]);
+        }
+
+        // Not a strict JSON array or a single range: the caller parses sequentially.
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1, /* two */ 2, 3]"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1, 2, 3,]"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1, , 3]"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1, 2, 3] 4"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("{\"a\": [1, 2]}"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1, 2"), 4));
+        Assertions.assertNull(JacksonParallelArrays.split(bytes("[1]"), 4));
+    }
+
+    @Test
+    void testParseList() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 40_000; i++) {
+            builder.append(i > 0 ? ",\n" : "")
+                    .append("{\"id\": ").append(i)
+                    .append(", \"name\": \"n,[").append(i).append("]\\\\\\\"}\u00e9\"")
+                    .append(", \"age\": ").append(i % 100).append('}');
+        }
+        byte[] json = bytes(builder.append(']').toString());
+        Assertions.assertTrue(json.length > Jackson.DEFAULT_PARALLEL_THRESHOLD);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Student> parallel = JSON.Jackson.parseList(json, Student.class, pool);
+            List<Student> sequential = Jackson.parseList(json, Student.class);
+            Assertions.assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                Assertions.assertEquals(sequential.get(i).toString(), parallel.get(i).toString());
+            }
+            Assertions.assertEquals("n,[39999]\\\"}é", parallel.get(39_999).getName());
+
+            // Small inputs take the sequential path.
+            Assertions.assertEquals(2, Jackson.parseList(bytes("[{\"id\": 1}, {\"id\": 2}]"), Student.class, pool).size());
+
+            byte[] malformed = bytes(builder.toString().replace("{\"id\": 20000,", "{\"id\": {},"));
+            JsonProcessingException parallelError = Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseList(malformed, Student.class, pool));
+            JsonProcessingException sequentialError = Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseList(malformed, Student.class));
+            // Located in the whole input, not in the failed range.
+            Assertions.assertEquals(sequentialError.getMessage(), parallelError.getMessage());
+            Assertions.assertEquals(sequentialError.getLocation().getLineNr(), parallelError.getLocation().getLineNr());
+
+            Assertions.assertEquals(sequential.size(), JSON.Jackson.parseListParallel(json, Student.class).size());
+            Assertions.assertEquals(sequential.size(), Jackson.parseList(Jackson.getObjectMapper(), json, Student.class, Runnable::run, 2).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParseList_object_ids() {
+        StringBuilder builder = new StringBuilder("[");
+        String pad = String.join("", Collections.nCopies(200, "x"));
+        for (int i = 0; i < 20_000; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"pad\":\"").append(pad).append('"')
+                    .append(",\"ref\":").append(i == 19_999 ? "0" : "null").append('}');
+        }
+        byte[] json = bytes(builder.append(']').toString());
+        Assertions.assertTrue(json.length > Jackson.DEFAULT_PARALLEL_THRESHOLD);
+
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        Assertions.assertTrue(JacksonParallelArrays.isSplittable(objectMapper, objectMapper.constructType(Student.class)));
+        Assertions.assertFalse(JacksonParallelArrays.isSplittable(objectMapper, objectMapper.constructType(Node.class)));
+        Assertions.assertFalse(JacksonParallelArrays.isSplittable(objectMapper, objectMapper.constructType(Holder.class)));
+        Assertions.assertFalse(JacksonParallelArrays.isSplittable(objectMapper, objectMapper.constructType(Parent.class)));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // A reference across a split point: parsed sequentially, so it resolves.
+            List<Node> nodes = Jackson.parseList(objectMapper, json, Node.class, pool);
+            Assertions.assertEquals(20_000, nodes.size());
+            Assertions.assertSame(nodes.get(0), nodes.get(19_999).ref);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    public static class Node {
+
+        public long id;
+        public String pad;
+        public Node ref;
+    }
+
+    public static class Holder {
+
+        public List<Node> nodes;
+    }
+
+    public static class Parent {
+
+        @JsonManagedReference
+        public List<Child> children;
+    }
+
+    public static class Child {
+
+        @JsonBackReference
+        public Parent parent;
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.cbor.Cbor;
+import io.github.photowey.spring.infras.common.json.smile.Smile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code JacksonParallelWriterTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonParallelWriterTest extends LocalTest {
+
+    @Test
+    void testToBytes() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(i % 10 == 0 ? null : new Student((long) i, "photowey-" + i + "-" + repeat(i % 97), i % 100));
+        }
+        byte[] expected = Jackson.toBytes(values);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper objectMapper = Jackson.getObjectMapper();
+            Assertions.assertTrue(JacksonParallelWriter.parts(objectMapper, values, pool, 16) > 1);
+            Assertions.assertArrayEquals(expected, JSON.Jackson.toBytes(objectMapper, values, pool, 16));
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            JSON.Jackson.writeTo(objectMapper, output, values, pool, 16);
+            Assertions.assertArrayEquals(expected, output.toByteArray());
+
+            // Below the threshold, or with a pretty printer: sequential.
+            Assertions.assertArrayEquals(expected, Jackson.toBytes(values, pool));
+            ObjectMapper pretty = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+            Assertions.assertEquals(0, JacksonParallelWriter.parts(pretty, values, pool, 16));
+            Assertions.assertArrayEquals(Jackson.toBytes(pretty, values), Jackson.toBytes(pretty, values, pool, 16));
+
+            List<Object> failing = new ArrayList<>(values);
+            failing.set(4000, new Failing());
+            Assertions.assertThrows(JsonMappingException.class, () -> Jackson.toBytes(objectMapper, failing, pool, 16));
+            Assertions.assertThrows(JsonMappingException.class, () -> Jackson.writeTo(objectMapper, new ByteArrayOutputStream(), failing, pool, 16));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testToBytes_sequential_formats() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(new Student((long) i, "photowey-" + i, i % 100));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Binary formats and type ids around the list are not stitched as JSON arrays.
+            ObjectMapper smile = Smile.getObjectMapper();
+            ObjectMapper cbor = Cbor.getObjectMapper();
+            ObjectMapper typed = Jackson.getObjectMapper().copy()
+                    .activateDefaultTyping(BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(), ObjectMapper.DefaultTyping.EVERYTHING);
+            for (ObjectMapper objectMapper : Arrays.asList(smile, cbor, typed)) {
+                Assertions.assertEquals(0, JacksonParallelWriter.parts(objectMapper, values, pool, 16));
+                Assertions.assertArrayEquals(Jackson.toBytes(objectMapper, values), Jackson.toBytes(objectMapper, values, pool, 16));
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                Jackson.writeTo(objectMapper, output, values, pool, 16);
+                Assertions.assertArrayEquals(Jackson.toBytes(objectMapper, values), output.toByteArray());
+            }
+            Assertions.assertEquals(values.size(), Smile.parseList(Jackson.toBytes(smile, values, pool, 16), Student.class).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String repeat(int n) {
+        char[] chars = new char[n * 97];
+        Arrays.fill(chars, 'x');
+
+        return new String(chars);
+    }
+
+    public static class Failing {
+
+        public String getValue() {
+            throw new IllegalStateException("infras: failing getter");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code JacksonParseCacheTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonParseCacheTest extends LocalTest {
+
+    private static final byte[] JSON_BYTES = "{\"id\": 1, \"name\": \"photowey\", \"age\": 18}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testParseCache_shared() {
+        JacksonParseCache cache = JSON.Jackson.parseCache(16, 1 << 10, false);
+
+        byte[] json = JSON_BYTES.clone();
+        Student first = cache.parseObject(json, Student.class);
+        // The cache keeps its own copy of the input.
+        json[7] = '2';
+        Student second = cache.parseObject(JSON_BYTES.clone(), Student.class);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("Student(id=1, name=photowey, age=18)", second.toString());
+        Assertions.assertEquals(2L, cache.parseObject(json, Student.class).getId());
+
+        // The target type is part of the key.
+        Map<String, Object> map = cache.parseObject(JSON_BYTES, new TypeReference<Map<String, Object>>() {});
+        Assertions.assertEquals("photowey", map.get("name"));
+
+        JacksonParseCache.Stats stats = cache.stats();
+        Assertions.assertEquals(1L, stats.hits());
+        Assertions.assertEquals(3L, stats.misses());
+        Assertions.assertEquals(3, stats.size());
+        Assertions.assertEquals(3L * JSON_BYTES.length, stats.weight());
+    }
+
+    @Test
+    void testParseCache_copy() {
+        JacksonParseCache cache = Jackson.parseCache(16, 1 << 10, true);
+
+        Student first = cache.parseObject(JSON_BYTES, Student.class);
+        first.setName("mutated");
+        Student second = cache.parseObject(JSON_BYTES, Student.class);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("Student(id=1, name=photowey, age=18)", second.toString());
+
+        byte[] array = "[1, 2, 3]".getBytes(StandardCharsets.UTF_8);
+        List<Integer> values = cache.parseObject(array, new TypeReference<List<Integer>>() {});
+        values.clear();
+        Assertions.assertEquals(3, cache.parseObject(array, new TypeReference<List<Integer>>() {}).size());
+        Assertions.assertEquals(2L, cache.stats().hits());
+    }
+
+    @Test
+    void testParseCache_bounds() {
+        JacksonParseCache cache = Jackson.parseCache(2, 64, false);
+        for (int i = 0; i < 4; i++) {
+            cache.parseObject(("{\"id\": " + i + "}").getBytes(StandardCharsets.UTF_8), Student.class);
+        }
+        Assertions.assertEquals(2, cache.stats().size());
+        Assertions.assertEquals(2L, cache.stats().evictions());
+
+        // Heavier than the whole cache: parsed, never cached.
+        byte[] heavy = ("{\"name\": \"" + new String(new char[64]).replace('\0', 'x') + "\"}").getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(64, cache.parseObject(heavy, Student.class).getName().length());
+        Assertions.assertEquals(2, cache.stats().size());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.stats().size());
+        Assertions.assertEquals(0L, cache.stats().weight());
+        Assertions.assertEquals(0D, cache.stats().hitRate());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.parseCache(0, 64, false));
+        Assertions.assertNotEquals(JacksonParseCache.hash(JSON_BYTES), JacksonParseCache.hash("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
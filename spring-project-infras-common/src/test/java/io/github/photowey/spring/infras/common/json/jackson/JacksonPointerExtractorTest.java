@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code JacksonPointerExtractorTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonPointerExtractorTest extends LocalTest {
+
+    private static final byte[] EVENT = ("{\"type\":\"order.created\",\"payload\":{\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\",\"price\":1.25}]},"
+            + "\"tenant\":{\"id\":7,\"student\":{\"id\":1,\"name\":\"photowey\"}}}").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testExtract() {
+        Assertions.assertEquals("order.created", JSON.Jackson.extract(EVENT, "/type", String.class));
+        Assertions.assertEquals(7L, Jackson.extract(new ByteArrayInputStream(EVENT), "/tenant/id", Long.class));
+        Assertions.assertEquals("b", Jackson.extract(EVENT, "/payload/items/1/sku", String.class));
+        Assertions.assertEquals("photowey", Jackson.extract(EVENT, "/tenant/student", Student.class).getName());
+        Assertions.assertNull(Jackson.extract(EVENT, "/payload/items/2/sku", String.class));
+        // Primitive targets are bound to their wrappers.
+        long tenantId = Jackson.extract(EVENT, "/tenant/id", long.class);
+        Assertions.assertEquals(7L, tenantId);
+        Assertions.assertEquals(7, (int) Jackson.extract(new ByteArrayInputStream(EVENT), "/tenant/id", int.class));
+        Assertions.assertNull(Jackson.extract(EVENT, "/missing", String.class));
+    }
+
+    @Test
+    void testExtract_multi() {
+        Map<String, Class<?>> pointers = new LinkedHashMap<>();
+        pointers.put("/tenant/id", Integer.class);
+        pointers.put("/payload/items/1", JsonNode.class);
+        pointers.put("/payload/items/1/price", BigDecimal.class);
+        pointers.put("/missing", String.class);
+
+        Map<String, Object> values = Jackson.extract(EVENT, pointers);
+
+        Assertions.assertEquals(3, values.size());
+        Assertions.assertEquals(7, values.get("/tenant/id"));
+        Assertions.assertEquals("b", ((JsonNode) values.get("/payload/items/1")).get("sku").asText());
+        Assertions.assertEquals(new BigDecimal("1.25"), values.get("/payload/items/1/price"));
+        Assertions.assertFalse(values.containsKey("/missing"));
+    }
+
+    @Test
+    void testExtract_stopsEarly() {
+        // The tail is not even valid JSON: it must never be read once the path is found.
+        byte[] json = "{\"type\":\"ping\", \"rest\": [1, 2,".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertEquals("ping", Jackson.extract(json, "/type", String.class));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code JacksonPrimitiveArraysTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonPrimitiveArraysTest extends LocalTest {
+
+    @Test
+    void testParseArrays() {
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, Jackson.parseIntArray("[1, -2, 3]"));
+        Assertions.assertArrayEquals(new long[]{1L, 9007199254740993L}, JSON.Jackson.parseLongArray("[1, 9007199254740993]".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertArrayEquals(new double[]{1.5D, 2D, -0.25D}, Jackson.parseDoubleArray(stream("[1.5, 2, -0.25]")));
+
+        Assertions.assertArrayEquals(new int[0], Jackson.parseIntArray("[]"));
+        Assertions.assertNull(Jackson.parseIntArray("null"));
+
+        int[] large = new int[1000];
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 7;
+            json.append(i > 0 ? "," : "").append(i * 7);
+        }
+        Assertions.assertArrayEquals(large, Jackson.parseIntArray(json.append(']').toString()));
+    }
+
+    @Test
+    void testParseArrays_grow() {
+        // Past the pre-size: grown geometrically, then trimmed.
+        long[] values = new long[200_000];
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 10;
+            json.append(i > 0 ? "," : "").append(i % 10);
+        }
+        Assertions.assertArrayEquals(values, Jackson.parseLongArray(json.append(']').toString().getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(1, JacksonPrimitiveArrays.capacity(0));
+        Assertions.assertEquals(4, JacksonPrimitiveArrays.capacity(7));
+        Assertions.assertEquals(1 << 16, JacksonPrimitiveArrays.capacity(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testCoercion() {
+        // Non-number elements are bound by the mapper, as readValue(json, int[].class) would.
+        Assertions.assertArrayEquals(new int[]{1, 2, 0}, Jackson.parseIntArray("[1, \"2\", null]"));
+        Assertions.assertArrayEquals(Jackson.parseObject("[1.5, \"2.5\"]", double[].class), Jackson.parseDoubleArray("[1.5, \"2.5\"]"));
+
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseIntArray("[1, 3000000000]"));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseIntArray("[1, {}]"));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseIntArray("[1, 2"));
+        Assertions.assertThrows(JsonProcessingException.class, () -> Jackson.parseLongArray("{\"a\": 1}"));
+    }
+
+    @Test
+    void testChunks() {
+        List<int[]> chunks = new ArrayList<>();
+        long count = Jackson.parseIntArray(stream("[1, 2, 3, 4, 5, 6, 7]"), 3, (chunk, length) -> {
+            Assertions.assertEquals(3, chunk.length);
+            int[] copy = new int[length];
+            System.arraycopy(chunk, 0, copy, 0, length);
+            chunks.add(copy);
+        });
+
+        Assertions.assertEquals(7L, count);
+        Assertions.assertEquals(3, chunks.size());
+        Assertions.assertArrayEquals(new int[]{7}, chunks.get(2));
+
+        double[] sum = new double[1];
+        Assertions.assertEquals(4L, JSON.Jackson.parseDoubleArray(stream("[0.5, 1.5, 2, 4]"), 2, (chunk, length) -> {
+            for (int i = 0; i < length; i++) {
+                sum[0] += chunk[i];
+            }
+        }));
+        Assertions.assertEquals(8D, sum[0]);
+
+        Assertions.assertEquals(0L, Jackson.parseLongArray(stream("[]"), 16, (chunk, length) -> Assertions.fail("no chunk expected")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.parseLongArray(stream("[1]"), 0, (chunk, length) -> {}));
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@code JacksonProfileTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonProfileTest extends LocalTest {
+
+    @Test
+    void testDefault() {
+        Assertions.assertSame(Jackson.getObjectMapper(), Jackson.getObjectMapper(JacksonProfiles.DEFAULT));
+
+        Map<String, Object> map = Jackson.profile(JacksonProfiles.DEFAULT).parseObject("{'price': 1.25 /* comment */}", Map.class);
+        Assertions.assertEquals(new BigDecimal("1.25"), map.get("price"));
+    }
+
+    @Test
+    void testStrictFast() {
+        JacksonProfile profile = JSON.Jackson.profile(JacksonProfiles.STRICT_FAST);
+        Assertions.assertNotSame(Jackson.getObjectMapper(), profile.objectMapper());
+
+        Map<String, Object> map = profile.parseObject("{\"price\": 1.25}", Map.class);
+        Assertions.assertEquals(1.25D, map.get("price"));
+
+        Assertions.assertThrows(JsonProcessingException.class, () -> profile.parseObject("{'price': 1.25}", Map.class));
+        Assertions.assertThrows(JsonProcessingException.class, () -> profile.parseObject("{\"id\": 1, \"unknown\": 2}", Student.class));
+    }
+
+    @Test
+    void testLenient() {
+        JacksonProfile profile = Jackson.profile(JacksonProfiles.LENIENT);
+
+        Student student = profile.parseObject("{id: 1, name: 'photowey', unknown: 2,}", Student.class);
+        Assertions.assertEquals(1L, student.getId());
+        Assertions.assertEquals("photowey", student.getName());
+    }
+
+    @Test
+    void testRegisterProfile() {
+        Jackson.registerProfile("market", () -> JacksonProfiles.builder(
+                JacksonProfiles.STRICT_FAST,
+                Collections.singletonMap("fail-on-unknown-properties", false)
+        ).build());
+
+        ObjectMapper objectMapper = Jackson.getObjectMapper("market");
+        Assertions.assertFalse(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        Assertions.assertEquals(1L, Jackson.profile("market").parseObject("{\"id\": 1, \"unknown\": 2}", Student.class).getId());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.profile("unknown"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Jackson.registerProfile(JacksonProfiles.DEFAULT, new ObjectMapper()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JacksonProfiles.builder(JacksonProfiles.DEFAULT, Collections.singletonMap("NO_SUCH_FEATURE", true)));
+    }
+
+    @Test
+    void testClean_keeps_registered_profiles() {
+        Jackson.registerProfile("custom", () -> JacksonProfiles.builder(JacksonProfiles.STRICT_FAST).build());
+        ObjectMapper before = Jackson.getObjectMapper("custom");
+
+        Jackson.clean();
+
+        // The built mapper is dropped, the registered factory rebuilds it lazily.
+        ObjectMapper after = Jackson.getObjectMapper("custom");
+        Assertions.assertNotSame(before, after);
+        Assertions.assertEquals(1L, Jackson.profile("custom").parseObject("{\"id\": 1}", Student.class).getId());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.photowey.spring.infras.common.LocalTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code JacksonRegistryTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonRegistryTest extends LocalTest {
+
+    @Test
+    void testReader() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+
+        ObjectReader reader = JacksonRegistry.reader(objectMapper, Student.class);
+        Assertions.assertSame(reader, JacksonRegistry.reader(objectMapper, Student.class));
+        Assertions.assertNotSame(reader, JacksonRegistry.reader(objectMapper, Student.class, View.Public.class));
+
+        ObjectReader listReader = JacksonRegistry.collectionReader(objectMapper, List.class, Student.class);
+        Assertions.assertSame(listReader, JacksonRegistry.collectionReader(objectMapper, List.class, Student.class));
+        Assertions.assertNotSame(listReader, JacksonRegistry.collectionReader(objectMapper, Set.class, Student.class));
+    }
+
+    @Test
+    void testWriter() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+
+        ObjectWriter writer = JacksonRegistry.writer(objectMapper, View.Public.class);
+        Assertions.assertSame(writer, JacksonRegistry.writer(objectMapper, View.Public.class));
+        Assertions.assertNotSame(writer, JacksonRegistry.writer(objectMapper));
+    }
+
+    @Test
+    void testClean() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        ObjectReader reader = JacksonRegistry.reader(objectMapper, Student.class);
+
+        Jackson.clean();
+        Assertions.assertEquals(0, JacksonRegistry.size());
+
+        ObjectMapper fresh = Jackson.getObjectMapper();
+        Assertions.assertNotSame(reader, JacksonRegistry.reader(fresh, Student.class));
+    }
+
+    @Test
+    void testMaxSize() {
+        ObjectMapper objectMapper = Jackson.getObjectMapper();
+        int maxSize = JacksonRegistry.maxSize();
+        try {
+            JacksonRegistry.clean();
+            JacksonRegistry.maxSize(2);
+
+            JacksonRegistry.reader(objectMapper, Student.class);
+            JacksonRegistry.reader(objectMapper, String.class);
+            JacksonRegistry.reader(objectMapper, Long.class);
+
+            Assertions.assertEquals(2, JacksonRegistry.size());
+        } finally {
+            JacksonRegistry.maxSize(maxSize);
+        }
+    }
+}
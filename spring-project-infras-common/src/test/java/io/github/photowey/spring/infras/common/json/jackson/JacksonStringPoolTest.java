@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code JacksonStringPoolTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonStringPoolTest extends LocalTest {
+
+    private static final String JSON_ARRAY = "[{\"status\":\"PAID\",\"country\":\"CN\"},{\"status\":\"PAID\",\"country\":\"CN\"},{\"status\":\"NEW\",\"country\":null}]";
+
+    @Test
+    void testDeduplicate() {
+        JacksonStringPool pool = new JacksonStringPool();
+        ObjectMapper objectMapper = JSON.Jackson.withStringPool(Jackson.getObjectMapper(), pool);
+        Assertions.assertNotSame(Jackson.getObjectMapper(), objectMapper);
+
+        List<Order> orders = Jackson.parseList(objectMapper, JSON_ARRAY.getBytes(StandardCharsets.UTF_8), Order.class);
+        Assertions.assertEquals(3, orders.size());
+        Assertions.assertSame(orders.get(0).getStatus(), orders.get(1).getStatus());
+        Assertions.assertSame(orders.get(0).getCountry(), orders.get(1).getCountry());
+        Assertions.assertEquals("NEW", orders.get(2).getStatus());
+        Assertions.assertNull(orders.get(2).getCountry());
+
+        // Untyped values and string collections go through the pool too.
+        List<Map<String, Object>> maps = Jackson.parseObject(objectMapper, JSON_ARRAY, new TypeReference<List<Map<String, Object>>>() {});
+        Assertions.assertSame(orders.get(0).getStatus(), maps.get(1).get("status"));
+        List<String> codes = Jackson.parseList(objectMapper, "[\"CN\", \"CN\", 1]", String.class);
+        Assertions.assertSame(orders.get(0).getCountry(), codes.get(1));
+        Assertions.assertEquals("1", codes.get(2));
+
+        JacksonStringPool.Stats stats = pool.stats();
+        Assertions.assertEquals(4L, stats.misses());
+        Assertions.assertEquals(9L, stats.hits());
+        Assertions.assertTrue(stats.hitRate() > 0.5D);
+
+        // Not pooled: the shared mapper is left untouched.
+        List<Order> plain = Jackson.parseList(JSON_ARRAY, Order.class);
+        Assertions.assertNotSame(plain.get(0).getStatus(), plain.get(1).getStatus());
+    }
+
+    @Test
+    void testDedupProfile() {
+        JacksonStringPool pool = JSON.Jackson.stringPool();
+        pool.clear();
+
+        List<Order> orders = Jackson.profile(JacksonProfiles.DEDUP).parseList(JSON_ARRAY, Order.class);
+        Assertions.assertSame(orders.get(0).getStatus(), orders.get(1).getStatus());
+        Assertions.assertTrue(pool.stats().hits() >= 2L);
+    }
+
+    @Test
+    void testBounded() {
+        JacksonStringPool pool = new JacksonStringPool(16, 4);
+        Assertions.assertEquals(16, pool.capacity());
+
+        String longValue = "longer than four";
+        Assertions.assertSame(longValue, pool.intern(longValue));
+        Assertions.assertEquals(1L, pool.stats().bypassed());
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(String.valueOf(i), pool.intern(String.valueOf(i)));
+        }
+        char[] chars = "x999y".toCharArray();
+        Assertions.assertEquals("999", pool.intern(chars, 1, 3));
+
+        pool.clear();
+        Assertions.assertEquals(0L, pool.stats().misses());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new JacksonStringPool(0, 4));
+    }
+
+    public static class Order {
+
+        private String status;
+        private String country;
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public void setCountry(String country) {
+            this.country = country;
+        }
+    }
+}
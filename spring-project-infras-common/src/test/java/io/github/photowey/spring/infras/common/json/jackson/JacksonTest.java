@@ -17,6 +17,7 @@ package io.github.photowey.spring.infras.common.json.jackson;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
@@ -25,9 +26,17 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * {@code JacksonTest}
@@ -642,4 +651,122 @@ class JacksonTest extends LocalTest {
         Assertions.assertEquals(1, simpleCollection3.size());
         Assertions.assertEquals(now, new ArrayList<>(simpleCollection3).get(0).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStreamArray() {
+        List<Student> students = new ArrayList<>();
+        for (long i = 0; i < 16; i++) {
+            students.add(Student.builder().id(i).name("photowey-" + i).age(18).build());
+        }
+        byte[] bytes = Jackson.toBytes(students);
+
+        try (Stream<Student> stream = Jackson.streamArray(new ByteArrayInputStream(bytes), Student.class)) {
+            List<Long> ids = stream.map(Student::getId).collect(Collectors.toList());
+            Assertions.assertEquals(16, ids.size());
+            Assertions.assertEquals(15L, ids.get(15));
+        }
+
+        try (Stream<Student> stream = Jackson.streamArray(bytes, new TypeReference<Student>() {})) {
+            Assertions.assertEquals("photowey-3", stream.skip(3).findFirst().map(Student::getName).orElse(null));
+        }
+    }
+
+    @Test
+    void testIterateArray() throws Exception {
+        String json = "[{\"id\":1,\"name\":\"photowey\"},{\"id\":2,\"name\":\"sharkchili\"}]";
+
+        try (MappingIterator<Student> it = Jackson.iterateArray(json.getBytes(StandardCharsets.UTF_8), Student.class)) {
+            Assertions.assertTrue(it.hasNext());
+            Assertions.assertEquals(1L, it.next().getId());
+            Assertions.assertEquals("sharkchili", it.next().getName());
+            Assertions.assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    void testWriteLines_readLines() {
+        List<Student> students = new ArrayList<>();
+        for (long i = 0; i < 8; i++) {
+            students.add(Student.builder().id(i).name("photowey-" + i).age(18).build());
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Jackson.writeLines(output, students);
+
+        String lines = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(8, lines.split("\n").length);
+        Assertions.assertTrue(lines.endsWith("\n"));
+
+        try (Stream<Student> stream = Jackson.readLines(new ByteArrayInputStream(output.toByteArray()), Student.class)) {
+            List<Student> peers = stream.collect(Collectors.toList());
+            Assertions.assertEquals(8, peers.size());
+            Assertions.assertEquals("photowey-7", peers.get(7).getName());
+        }
+
+        byte[] arrays = "[1,2]\n[3]\n".getBytes(StandardCharsets.UTF_8);
+        try (Stream<List<Integer>> stream = Jackson.readLines(new ByteArrayInputStream(arrays), new TypeReference<List<Integer>>() {})) {
+            Assertions.assertEquals(2, stream.count());
+        }
+    }
+
+    @Test
+    void testReadLines_parallel() {
+        StringBuilder buf = new StringBuilder();
+        for (long i = 0; i < 10_000; i++) {
+            buf.append("{\"id\":").append(i).append(",\"name\":\"photowey\"}").append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 100 == 0) {
+                buf.append("\n");
+            }
+        }
+        InputStream input = new ByteArrayInputStream(buf.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<Student> stream = Jackson.readLines(Jackson.getObjectMapper(), input, Student.class, ForkJoinPool.commonPool(), 64)) {
+            List<Student> peers = stream.collect(Collectors.toList());
+            Assertions.assertEquals(10_000, peers.size());
+            for (int i = 0; i < peers.size(); i++) {
+                Assertions.assertEquals(i, peers.get(i).getId());
+            }
+        }
+    }
+
+    @Test
+    void testWriteTo() {
+        Student student = Student.builder()
+                .id(1714497259000L)
+                .name("photowey")
+                .age(18)
+                .build();
+        String json = Jackson.toJSONString(student);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Jackson.writeTo(output, student);
+        Assertions.assertEquals(json, new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+        StringWriter writer = new StringWriter();
+        Jackson.writeTo(writer, student);
+        Assertions.assertEquals(json, writer.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        buffer.put((byte) ' ');
+        Jackson.writeTo(buffer, student);
+        buffer.flip();
+        buffer.get();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Assertions.assertEquals(json, new String(bytes, StandardCharsets.UTF_8));
+
+        ByteBuffer small = ByteBuffer.allocate(16);
+        small.position(2);
+        Assertions.assertThrows(BufferOverflowException.class, () -> Jackson.writeTo(small, student));
+        // The position is restored on failure.
+        Assertions.assertEquals(2, small.position());
+
+        List<Student> students = new ArrayList<>();
+        for (long i = 0; i < 1024; i++) {
+            students.add(Student.builder().id(i).name("photowey-" + i).age(18).build());
+        }
+        ByteArrayOutputStream channelOutput = new ByteArrayOutputStream();
+        Jackson.writeTo(Channels.newChannel(channelOutput), students);
+        Assertions.assertArrayEquals(Jackson.toBytes(students), channelOutput.toByteArray());
+    }
+}
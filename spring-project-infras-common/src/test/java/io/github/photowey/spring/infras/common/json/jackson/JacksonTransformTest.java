@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code JacksonTransformTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonTransformTest extends LocalTest {
+
+    private static final String JSON_BODY = "{\"id\":1,\"amount\":1.50,\"user\":{\"name\":\"photowey\",\"password\":\"secret\",\"age\":18},"
+            + "\"items\":[{\"sku\":\"a\",\"secret\":1},{\"sku\":\"b\",\"secret\":2}],\"remark\":null}";
+
+    @Test
+    void testTransform_exclude_rename() {
+        JacksonTransformRules rules = JacksonTransformRules.builder()
+                .exclude("/user/password", "/items/*/secret")
+                .rename("/user/name", "username")
+                .build();
+
+        Assertions.assertEquals("{\"id\":1,\"amount\":1.50,\"user\":{\"username\":\"photowey\",\"age\":18},"
+                + "\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"}],\"remark\":null}", Jackson.transform(JSON_BODY, rules));
+    }
+
+    @Test
+    void testTransform_include() {
+        JacksonTransformRules rules = JacksonTransformRules.builder()
+                .include("/id", "/user", "/items/1/sku", "/amount/scale")
+                .exclude("/user/age")
+                .build();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JSON.Jackson.transform(new ByteArrayInputStream(JSON_BODY.getBytes(StandardCharsets.UTF_8)), output, rules);
+
+        Assertions.assertEquals("{\"id\":1,\"user\":{\"name\":\"photowey\",\"password\":\"secret\"},\"items\":[{\"sku\":\"b\"}]}",
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testTransform_format() {
+        String pretty = Jackson.transform(JSON_BODY, JacksonTransformRules.pretty());
+        Assertions.assertTrue(pretty.contains("\"amount\" : 1.50"));
+        Assertions.assertTrue(pretty.contains("\n"));
+
+        byte[] compact = Jackson.transform(pretty.getBytes(StandardCharsets.UTF_8), JacksonTransformRules.compact());
+        Assertions.assertEquals(JSON_BODY, new String(compact, StandardCharsets.UTF_8));
+
+        // toPrettyString goes through the mapper, numbers are written as it reads them.
+        Assertions.assertEquals("{\n  \"n\" : 1000\n}", Jackson.toPrettyString("{\"n\": 1e3}").replace("\r\n", "\n"));
+        Assertions.assertEquals("{\"n\":1e3}", Jackson.transform("{\"n\": 1e3}", JacksonTransformRules.compact()));
+    }
+
+    @Test
+    void testBuilder_after_build() {
+        JacksonTransformRules.Builder builder = JacksonTransformRules.builder().include("/id");
+        JacksonTransformRules rules = builder.build();
+        builder.include("/user").exclude("/id");
+
+        // The built rules are not changed by the builder afterwards.
+        Assertions.assertEquals("{\"id\":1}", Jackson.transform(JSON_BODY, rules));
+    }
+}
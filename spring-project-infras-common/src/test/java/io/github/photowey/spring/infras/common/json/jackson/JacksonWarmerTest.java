@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.jackson;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.photowey.spring.infras.common.LocalTest;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code JacksonWarmerTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JacksonWarmerTest extends LocalTest {
+
+    @Test
+    void testWarmUp() {
+        JacksonWarmUpReport report = Jackson.warmUp(Arrays.asList(Student.class, Conflicting.class), 0);
+
+        Assertions.assertEquals(Collections.singletonList(Student.class), report.warmed());
+        Assertions.assertTrue(report.failed().containsKey(Conflicting.class));
+        Assertions.assertTrue(report.skipped().isEmpty());
+    }
+
+    @Test
+    void testWarmUpAsync() {
+        JacksonWarmUpReport report = JSON.Jackson.warmUpAsync(Collections.singletonList(Student.class), 1000, ForkJoinPool.commonPool()).join();
+
+        Assertions.assertEquals(1, report.warmed().size());
+        Assertions.assertTrue(report.elapsedMillis() >= 0);
+    }
+
+    public static class Conflicting {
+
+        @JsonProperty("value")
+        public String getLeft() {
+            return "left";
+        }
+
+        @JsonProperty("value")
+        public String getRight() {
+            return "right";
+        }
+    }
+}
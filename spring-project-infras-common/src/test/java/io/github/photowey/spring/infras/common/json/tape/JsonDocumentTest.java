@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.infras.common.json.tape;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import io.github.photowey.spring.infras.common.LocalTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code JsonDocumentTest}
+ *
+ * @author photowey
+ * @version 1.6.0
+ * @since 2026/10/17
+ */
+class JsonDocumentTest extends LocalTest {
+
+    private static final byte[] JSON = ("{\"id\": 9007199254740993, \"name\": \"photowey\", \"amount\": -1024.25e0, \"ok\": true,"
+            + " \"none\": null, \"text\": \"a\\\"b\\u4e2d\\n\", \"中\": \"文\", \"tags\": [\"x\", {\"k\": [1, 2, 3]}, []],"
+            + " \"student\": {\"id\": 1, \"name\": \"sharkchili\", \"age\": 18}}").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testAccess() {
+        JsonDocument document = JsonDocument.of(JSON);
+        int root = document.root();
+
+        Assertions.assertEquals(JsonDocument.Type.OBJECT, document.type(root));
+        Assertions.assertEquals(9, document.size(root));
+        Assertions.assertEquals(9007199254740993L, document.getLong(document.get(root, "id")));
+        Assertions.assertEquals("photowey", document.getText(document.get(root, "name")));
+        Assertions.assertEquals(new BigDecimal("-1024.25e0"), document.getDecimal(document.get(root, "amount")));
+        Assertions.assertEquals(-1024.25D, document.getDouble(document.get(root, "amount")));
+        // A fraction is never truncated, short or long.
+        Assertions.assertThrows(ArithmeticException.class, () -> document.getLong(document.get(root, "amount")));
+        Assertions.assertTrue(document.getBoolean(document.get(root, "ok")));
+        Assertions.assertTrue(document.isNull(document.get(root, "none")));
+        Assertions.assertEquals("a\"b中\n", document.getText(document.get(root, "text")));
+        Assertions.assertEquals("文", document.getText(document.get(root, "中")));
+
+        int tags = document.get(root, "tags");
+        Assertions.assertEquals(3, document.size(tags));
+        Assertions.assertEquals(0, document.size(document.get(tags, 2)));
+        Assertions.assertEquals("[1, 2, 3]", document.getRaw(document.at("/tags/1/k")));
+        Assertions.assertEquals(3, document.getInt(document.at(JsonPointer.compile("/tags/1/k/2"))));
+
+        Assertions.assertEquals(JsonDocument.MISSING, document.get(root, "missing"));
+        Assertions.assertEquals(JsonDocument.MISSING, document.get(tags, 3));
+        Assertions.assertEquals(JsonDocument.MISSING, document.at("/name/first"));
+        Assertions.assertNull(document.getText(JsonDocument.MISSING));
+        Assertions.assertThrows(IllegalStateException.class, () -> document.getLong(document.get(root, "name")));
+        Assertions.assertEquals(JsonDocument.Type.MISSING, document.type(document.at("/nope")));
+        Assertions.assertEquals(0, document.size(document.at("/nope")));
+    }
+
+    @Test
+    void testGetLong_exact() {
+        JsonDocument document = JsonDocument.of("[1.5, 1.0, 1e3, 12345678901234567.5, 12345678901234567.0, 9223372036854775808]"
+                .getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(ArithmeticException.class, () -> document.getLong(document.get(document.root(), 0)));
+        Assertions.assertEquals(1L, document.getLong(document.get(document.root(), 1)));
+        Assertions.assertEquals(1000L, document.getLong(document.get(document.root(), 2)));
+        Assertions.assertThrows(ArithmeticException.class, () -> document.getLong(document.get(document.root(), 3)));
+        Assertions.assertEquals(12345678901234567L, document.getLong(document.get(document.root(), 4)));
+        Assertions.assertThrows(ArithmeticException.class, () -> document.getLong(document.get(document.root(), 5)));
+    }
+
+    @Test
+    void testBind() {
+        JsonDocument document = JsonDocument.of(JSON);
+
+        Student student = document.bind(document.at("/student"), Student.class);
+        Assertions.assertEquals("sharkchili", student.getName());
+        Assertions.assertEquals(18, student.getAge());
+    }
+
+    @Test
+    void testMalformed() {
+        String[] malformed = {"", "{", "[1,]", "{\"a\" 1}", "{\"a\": 01}", "[tru]", "\"abc", "{} {}", "[1.]", "{,}"};
+        for (String json : malformed) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> JsonDocument.of(json.getBytes(StandardCharsets.UTF_8)), json);
+        }
+    }
+}
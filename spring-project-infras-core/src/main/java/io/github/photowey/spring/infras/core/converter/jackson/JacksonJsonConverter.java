@@ -16,10 +16,14 @@
 package io.github.photowey.spring.infras.core.converter.jackson;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonBeanConverter;
+import io.github.photowey.spring.infras.common.json.jackson.JacksonRegistry;
 import io.github.photowey.spring.infras.core.converter.JsonConverter;
 import io.github.photowey.spring.infras.core.getter.ObjectMapperGetter;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 /**
@@ -69,6 +73,40 @@ public interface JacksonJsonConverter extends JsonConverter, ObjectMapperGetter
         }
     }
 
+    /**
+     * Parse with view, only the properties in {@code view} are bound, the others are skipped without being decoded.
+     *
+     * @param body  the json body
+     * @param clazz the target class
+     * @param view  the json view
+     * @param <T>   the target class type
+     * @return T type
+     * @since 1.6.0
+     */
+    default <T> T parseObject(String body, Class<T> clazz, Class<?> view) {
+        try {
+            return JacksonRegistry.reader(this.objectMapper(), clazz, view).readValue(body);
+        } catch (Exception e) {
+            return throwUnchecked(e, clazz);
+        }
+    }
+
+    default <T> T parseObject(byte[] body, Class<T> clazz, Class<?> view) {
+        try {
+            return JacksonRegistry.reader(this.objectMapper(), clazz, view).readValue(body);
+        } catch (Exception e) {
+            return throwUnchecked(e, clazz);
+        }
+    }
+
+    default <T> T parseObject(InputStream body, Class<T> clazz, Class<?> view) {
+        try {
+            return JacksonRegistry.reader(this.objectMapper(), clazz, view).readValue(body);
+        } catch (Exception e) {
+            return throwUnchecked(e, clazz);
+        }
+    }
+
     default <T> T parseObject(String body, TypeReference<T> clazz) {
         try {
             return this.objectMapper().readValue(body, clazz);
@@ -95,10 +133,56 @@ public interface JacksonJsonConverter extends JsonConverter, ObjectMapperGetter
 
     // ----------------------------------------------------------------
 
+    /**
+     * Parse a slice of {@code body} in place, e.g. a message inside a larger network or record buffer.
+     *
+     * @param body   the byte array holding the json body
+     * @param offset the offset of the json body
+     * @param length the length of the json body
+     * @param clazz  the target class
+     * @param <T>    the target class type
+     * @return T type
+     * @since 1.6.0
+     */
+    default <T> T parseObject(byte[] body, int offset, int length, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, offset, length, clazz);
+    }
+
+    default <T> T parseObject(byte[] body, int offset, int length, TypeReference<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, offset, length, clazz);
+    }
+
+    /**
+     * Parse the remaining bytes of a heap or direct buffer in place, its position and limit are left unchanged.
+     *
+     * @param body  the json buffer
+     * @param clazz the target class
+     * @param <T>   the target class type
+     * @return T type
+     * @since 1.6.0
+     */
+    default <T> T parseObject(ByteBuffer body, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, clazz);
+    }
+
+    default <T> T parseObject(ByteBuffer body, TypeReference<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, clazz);
+    }
+
+    default <T> T parseObject(CharSequence body, Class<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, clazz);
+    }
+
+    default <T> T parseObject(CharSequence body, TypeReference<T> clazz) {
+        return Jackson.parseObject(this.objectMapper(), body, clazz);
+    }
+
+    // ----------------------------------------------------------------
+
     @Override
     default <T> T toObject(Map<String, Object> map, Class<T> targetClass) {
         try {
-            return this.objectMapper().convertValue(map, targetClass);
+            return JacksonBeanConverter.toObject(this.objectMapper(), map, targetClass);
         } catch (Exception e) {
             return throwUnchecked(e, targetClass);
         }
@@ -107,7 +191,7 @@ public interface JacksonJsonConverter extends JsonConverter, ObjectMapperGetter
     @Override
     default <T> Map<String, Object> toMap(T object) {
         try {
-            return this.objectMapper().convertValue(object, new TypeReference<Map<String, Object>>() {});
+            return JacksonBeanConverter.toMap(this.objectMapper(), object);
         } catch (Exception e) {
             return throwUnchecked(e);
         }